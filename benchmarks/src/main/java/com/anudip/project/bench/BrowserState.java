@@ -0,0 +1,60 @@
+package com.anudip.project.bench;
+
+import java.time.Duration;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.anudip.project.DriverFactory;
+
+/**
+ * BrowserState
+ * ------------
+ * One browser and one local stand-in server per benchmark trial,
+ * already logged in and on the products page. The browser is a plain
+ * ChromeDriver (no command tracing, BiDi subscriptions or process
+ * sampling) so the numbers measure the operation, not the harness.
+ */
+@State(Scope.Benchmark)
+public class BrowserState {
+
+    public LocalSauceServer server;
+    public WebDriver driver;
+    public String baseUrl;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        server = new LocalSauceServer();
+        baseUrl = server.baseUrl();
+        driver = new ChromeDriver(DriverFactory.chromeOptions());
+        openInventory();
+    }
+
+    /* ---------- Logged-in products page via cookie ---------- */
+    public void openInventory() {
+        driver.get(baseUrl);
+        driver.manage().addCookie(new Cookie("session-username", "standard_user"));
+        driver.get(baseUrl + "inventory.html");
+        new WebDriverWait(driver, Duration.ofSeconds(10))
+                .until(ExpectedConditions.visibilityOfElementLocated(By.className("inventory_list")));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (driver != null) {
+            driver.quit();
+        }
+        if (server != null) {
+            server.stop();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.anudip.project.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebElement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Reading every product name and price: findElements + getText per
+ * element (one round trip each) vs a single JS DOM snapshot.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Dlog4j2.configurationFile=log4j2-bench.xml",
+        "-Dbidi.events=false", "-Dmonitor.browsers=false" })
+public class DomSnapshotBenchmark {
+
+    private static final String SNAPSHOT_JS =
+            "return Array.from(document.querySelectorAll('.inventory_item')).map(function (item) {"
+            + "  return item.querySelector('.inventory_item_name').textContent + '|'"
+            + "       + item.querySelector('.inventory_item_price').textContent;"
+            + "});";
+
+    @Benchmark
+    public List<String> findElementsGetText(BrowserState browser) {
+        List<String> rows = new ArrayList<>();
+        for (WebElement item : browser.driver.findElements(By.className("inventory_item"))) {
+            rows.add(item.findElement(By.className("inventory_item_name")).getText() + "|"
+                    + item.findElement(By.className("inventory_item_price")).getText());
+        }
+        return rows;
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public List<String> jsSnapshot(BrowserState browser) {
+        return (List<String>) ((JavascriptExecutor) browser.driver).executeScript(SNAPSHOT_JS);
+    }
+}
@@ -0,0 +1,72 @@
+package com.anudip.project.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openqa.selenium.WebDriver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.anudip.project.DriverFactory;
+import com.anudip.project.DriverPool;
+
+/**
+ * Driver acquisition: launching a fresh Chrome session per test
+ * vs borrowing one from DriverPool and resetting it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(value = 1, jvmArgsAppend = { "-Dlog4j2.configurationFile=log4j2-bench.xml",
+        "-Dbidi.events=false", "-Dmonitor.browsers=false" })
+@State(Scope.Benchmark)
+public class DriverAcquisitionBenchmark {
+
+    private LocalSauceServer server;
+    private DriverPool pool;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        server = new LocalSauceServer();
+        pool = new DriverPool(1);
+    }
+
+    @Benchmark
+    public String fresh() {
+        WebDriver driver = DriverFactory.createDriver();
+        try {
+            driver.get(server.baseUrl());
+            return driver.getTitle();
+        } finally {
+            DriverFactory.quit(driver);
+        }
+    }
+
+    @Benchmark
+    public String pooled() throws InterruptedException {
+        WebDriver driver = pool.acquire();
+        try {
+            driver.manage().deleteAllCookies();
+            driver.get(server.baseUrl());
+            return driver.getTitle();
+        } finally {
+            pool.release(driver);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+        server.stop();
+    }
+}
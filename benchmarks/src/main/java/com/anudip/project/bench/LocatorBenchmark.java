@@ -0,0 +1,65 @@
+package com.anudip.project.bench;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Locator strategies for the same single element (the backpack's
+ * "Add to cart" button) on the stand-in products page. Setup fails
+ * if a strategy matches anything else.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Dlog4j2.configurationFile=log4j2-bench.xml",
+        "-Dbidi.events=false", "-Dmonitor.browsers=false" })
+@State(Scope.Benchmark)
+public class LocatorBenchmark {
+
+    @Param({ "id", "css", "cssClass", "xpathAttr", "xpathText", "xpathDeep" })
+    public String strategy;
+
+    private By locator;
+
+    private static final Map<String, By> LOCATORS = new HashMap<>();
+    static {
+        LOCATORS.put("id", By.id("add-to-cart-sauce-labs-backpack"));
+        LOCATORS.put("css", By.cssSelector("#add-to-cart-sauce-labs-backpack"));
+        LOCATORS.put("cssClass", By.cssSelector(".inventory_item:first-child button.btn_inventory"));
+        LOCATORS.put("xpathAttr", By.xpath("//button[@id='add-to-cart-sauce-labs-backpack']"));
+        LOCATORS.put("xpathText", By.xpath("//div[text()='Sauce Labs Backpack']/following-sibling::button"));
+        LOCATORS.put("xpathDeep", By.xpath("//div[@class='inventory_list']//div//button[@id='add-to-cart-sauce-labs-backpack']"));
+    }
+
+    @Setup
+    public void setUp(BrowserState browser) {
+        locator = LOCATORS.get(strategy);
+        WebElement expected = browser.driver.findElement(By.id("add-to-cart-sauce-labs-backpack"));
+        List<WebElement> found = browser.driver.findElements(locator);
+        if (found.size() != 1 || !found.get(0).equals(expected)) {
+            throw new IllegalStateException(strategy + " does not match the benchmark element: " + locator);
+        }
+    }
+
+    @Benchmark
+    public List<WebElement> findElements(BrowserState browser) {
+        return browser.driver.findElements(locator);
+    }
+}
@@ -0,0 +1,65 @@
+package com.anudip.project.bench;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Reaching the logged-in products page: typing into the login form
+ * vs injecting the session cookie (as StateSetup does).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1, time = 3)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = { "-Dlog4j2.configurationFile=log4j2-bench.xml",
+        "-Dbidi.events=false", "-Dmonitor.browsers=false" })
+@State(Scope.Benchmark)
+public class LoginBenchmark {
+
+    @Setup(Level.Invocation)
+    public void logout(BrowserState browser) {
+        browser.driver.manage().deleteAllCookies();
+    }
+
+    @Benchmark
+    public WebElement formLogin(BrowserState browser) {
+        WebDriver driver = browser.driver;
+        driver.get(browser.baseUrl);
+        driver.findElement(By.id("user-name")).sendKeys("standard_user");
+        driver.findElement(By.id("password")).sendKeys("secret_sauce");
+        driver.findElement(By.id("login-button")).click();
+        return inventory(driver);
+    }
+
+    @Benchmark
+    public WebElement cookieLogin(BrowserState browser) {
+        WebDriver driver = browser.driver;
+        driver.get(browser.baseUrl);
+        driver.manage().addCookie(new Cookie("session-username", "standard_user"));
+        driver.get(browser.baseUrl + "inventory.html");
+        return inventory(driver);
+    }
+
+    private static WebElement inventory(WebDriver driver) {
+        return new WebDriverWait(driver, Duration.ofSeconds(10))
+                .until(ExpectedConditions.visibilityOfElementLocated(By.className("inventory_list")));
+    }
+}
@@ -0,0 +1,56 @@
+package com.anudip.project.bench;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Wait polling interval: time from clicking Add to cart until the
+ * badge (updated 200 ms later by the stand-in page) is seen.
+ * Short intervals react faster but cost more round trips.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1, time = 3)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = { "-Dlog4j2.configurationFile=log4j2-bench.xml",
+        "-Dbidi.events=false", "-Dmonitor.browsers=false" })
+@State(Scope.Benchmark)
+public class WaitPollingBenchmark {
+
+    @Param({ "10", "50", "100", "250", "500" })
+    public long pollingMs;
+
+    private WebDriverWait wait;
+
+    @Setup(Level.Invocation)
+    public void reload(BrowserState browser) {
+        browser.openInventory();
+        if (wait == null) {
+            wait = new WebDriverWait(browser.driver, Duration.ofSeconds(10));
+            wait.pollingEvery(Duration.ofMillis(pollingMs));
+        }
+    }
+
+    @Benchmark
+    public Boolean addToCartAndWait(BrowserState browser) {
+        browser.driver.findElement(By.id("add-to-cart-sauce-labs-backpack")).click();
+        return wait.until(ExpectedConditions.textToBePresentInElementLocated(
+                By.className("shopping_cart_badge"), "1"));
+    }
+}
@@ -0,0 +1,218 @@
+package com.anudip.project;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import org.testng.TestNG;
+import org.testng.xml.Parser;
+import org.testng.xml.XmlSuite;
+
+/**
+ * HarnessRunner
+ * -------------
+ * Programmatic entry point for the suite, built for fast startup:
+ * - the suite is testng.xml, loaded with TestNG's Parser (the same file
+ *   surefire runs, so there is no second copy to keep in step)
+ * - Log4j is left to initialise lazily, on the first logger a test uses
+ * - with --cds=<file> the run is relaunched on an AppCDS archive of the
+ *   harness classes (dumped on the first run, reused afterwards)
+ * - time from JVM start to the first test is appended to
+ *   test-output/startup-times.csv
+ *
+ * Usage (test classes and dependencies on the classpath):
+ *   java -cp target/classes:target/test-classes:<deps> com.anudip.project.HarnessRunner
+ *        [--suite=<testng.xml>] [--cds=target/harness.jsa]
+ */
+public class HarnessRunner {
+
+    /** The suite definition; also read by ImpactSelector and DistributedWorker. */
+    public static final String SUITE_XML = "src/test/java/com/anudip/project/testng.xml";
+
+    public static void main(String[] args) throws Exception {
+        String suite = SUITE_XML;
+        String cds = null;
+        boolean relaunched = false;
+        for (String arg : args) {
+            if (arg.startsWith("--suite=")) {
+                suite = arg.substring(8);
+            } else if (arg.startsWith("--cds=")) {
+                cds = arg.substring(6);
+            } else if (arg.equals("--relaunched")) {
+                relaunched = true;
+            }
+        }
+
+        if (cds != null && !relaunched) {
+            System.exit(relaunchWithCds(cds, args));
+        }
+
+        TestNG testng = new TestNG();
+        testng.setXmlSuites(new Parser(suite).parseToList());
+        testng.addListener(new FirstTestTimer(System.getProperty("harness.cds", "off")));
+        testng.run();
+        System.exit(testng.getStatus());
+    }
+
+    /* ---------- Listener classes declared in the suite ---------- */
+    public static List<String> suiteListeners() throws IOException {
+        List<String> listeners = new ArrayList<>();
+        for (XmlSuite suite : new Parser(SUITE_XML).parseToList()) {
+            listeners.addAll(suite.getListeners());
+        }
+        return listeners;
+    }
+
+    /* ---------- AppCDS: dump the archive on first run, use it afterwards ---------- */
+    private static int relaunchWithCds(String archive, String[] args) throws IOException, InterruptedException {
+        File archiveFile = new File(archive);
+        String classpath = cdsClasspath(archiveFile);
+        boolean exists = archiveFile.isFile();
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+
+        List<String> cmd = new ArrayList<>();
+        cmd.add(java);
+        if (exists) {
+            cmd.add("-XX:SharedArchiveFile=" + archive);
+            cmd.add("-Dharness.cds=use");
+        } else {
+            cmd.add("-XX:ArchiveClassesAtExit=" + archive);
+            cmd.add("-Dharness.cds=dump");
+        }
+        // Pass through -D options of this JVM (profiles, pool size, ...)
+        for (String jvmArg : ManagementFactory.getRuntimeMXBean().getInputArguments()) {
+            if (jvmArg.startsWith("-D")) {
+                cmd.add(jvmArg);
+            }
+        }
+        cmd.add("-cp");
+        cmd.add(classpath);
+        cmd.add(HarnessRunner.class.getName());
+        cmd.addAll(Arrays.asList(args));
+        cmd.add("--relaunched");
+
+        System.out.println((exists ? "Using" : "Creating") + " AppCDS archive " + archive);
+        return new ProcessBuilder(cmd).inheritIO().start().waitFor();
+    }
+
+    /**
+     * CDS only accepts jars on the classpath, so class directories
+     * (target/classes, target/test-classes) are packed into jars next to
+     * the archive. A jar is only rebuilt when its classes changed, and
+     * then the archive is deleted because it no longer matches.
+     */
+    private static String cdsClasspath(File archive) throws IOException {
+        File dir = archive.getAbsoluteFile().getParentFile();
+        List<String> entries = new ArrayList<>();
+        int index = 0;
+        for (String entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+            File file = new File(entry);
+            if (!file.isDirectory()) {
+                entries.add(entry);
+                continue;
+            }
+            File jar = new File(dir, "harness-cp-" + (index++) + ".jar");
+            if (packIfChanged(file.toPath(), jar.toPath()) && archive.delete()) {
+                System.out.println("Classes changed, rebuilding AppCDS archive");
+            }
+            entries.add(jar.getPath());
+        }
+        return String.join(File.pathSeparator, entries);
+    }
+
+    private static boolean packIfChanged(Path classes, Path jar) throws IOException {
+        long jarTime = Files.exists(jar) ? Files.getLastModifiedTime(jar).toMillis() : -1;
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(classes)) {
+            files = walk.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+        }
+        List<String> names = new ArrayList<>();
+        for (Path f : files) {
+            names.add(classes.relativize(f).toString().replace(File.separatorChar, '/'));
+        }
+        // Rebuild on newer files, and on added or deleted ones
+        boolean changed = jarTime < 0 || !new HashSet<>(names).equals(jarEntries(jar));
+        for (Path f : files) {
+            changed |= Files.getLastModifiedTime(f).toMillis() > jarTime;
+        }
+        if (!changed) {
+            return false;
+        }
+        Files.createDirectories(jar.getParent());
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            for (int i = 0; i < files.size(); i++) {
+                out.putNextEntry(new JarEntry(names.get(i)));
+                Files.copy(files.get(i), out);
+                out.closeEntry();
+            }
+        }
+        return true;
+    }
+
+    private static Set<String> jarEntries(Path jar) throws IOException {
+        Set<String> entries = new HashSet<>();
+        if (Files.exists(jar)) {
+            try (JarFile file = new JarFile(jar.toFile())) {
+                for (Enumeration<JarEntry> e = file.entries(); e.hasMoreElements();) {
+                    entries.add(e.nextElement().getName());
+                }
+            }
+        }
+        return entries;
+    }
+
+    /* ---------- JVM start -> first test, appended per run ---------- */
+    static class FirstTestTimer implements ITestListener {
+        private final String cdsMode;
+        private final AtomicBoolean seen = new AtomicBoolean();
+
+        FirstTestTimer(String cdsMode) {
+            this.cdsMode = cdsMode;
+        }
+
+        @Override
+        public void onTestStart(ITestResult result) {
+            if (!seen.compareAndSet(false, true)) {
+                return;
+            }
+            long ms = System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+            System.out.println("⏱ Time to first test (" + result.getName() + "): " + ms + " ms, CDS " + cdsMode);
+
+            Path report = Paths.get("test-output", "startup-times.csv");
+            try {
+                Files.createDirectories(report.getParent());
+                boolean header = !Files.exists(report);
+                try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(report, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND))) {
+                    if (header) {
+                        out.println("time,cds,firstTest,timeToFirstTestMs");
+                    }
+                    out.println(LocalDateTime.now().withNano(0) + "," + cdsMode + "," + result.getName() + "," + ms);
+                }
+            } catch (IOException e) {
+                System.out.println("Could not write " + report + ": " + e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.anudip.project;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * AdaptivePoolSizer
+ * -----------------
+ * Decides how many browser sessions may run at once so that their
+ * combined memory stays under a ceiling. Starts from the live RSS of the
+ * running sessions and fits as many more as the remaining headroom
+ * allows at the recent per-session peak (or an estimate until one is
+ * known). The size goes down when sessions grow and back up when they
+ * get lighter.
+ *
+ * Config:
+ * - pool.memory.ceiling.mb   : memory budget for all browsers (default 4096)
+ * - pool.session.estimate.mb : per-session cost before any sample (default 500)
+ */
+public class AdaptivePoolSizer {
+    private static final Logger log = LogManager.getLogger(AdaptivePoolSizer.class);
+
+    private final long ceilingMb = Long.getLong("pool.memory.ceiling.mb", 4096);
+    private final long estimateMb = Long.getLong("pool.session.estimate.mb", 500);
+    private final int max;
+    private int lastSize = -1;
+
+    public AdaptivePoolSizer(int max) {
+        this.max = max;
+    }
+
+    /* ---------- Sessions allowed right now, between 1 and max ---------- */
+    public synchronized int allowedSessions() {
+        if (!BrowserProcessMonitor.isEnabled()) {
+            return max;
+        }
+        long recent = BrowserProcessMonitor.recentSessionRssMb();
+        long perSession = recent > 0 ? recent : estimateMb;
+        int sessions = BrowserProcessMonitor.liveSessions();
+        // Sessions not sampled yet count at the per-session figure
+        long liveMb = BrowserProcessMonitor.liveRssMb() + BrowserProcessMonitor.unsampledSessions() * perSession;
+        long more = Math.floorDiv(ceilingMb - liveMb, perSession);
+        int size = (int) Math.max(1, Math.min(max, sessions + more));
+        if (size != lastSize) {
+            log.info("Pool size {} (ceiling {} MB, {} MB live in {} sessions, {} MB per session)",
+                    size, ceilingMb, liveMb, sessions, perSession);
+            lastSize = size;
+        }
+        return size;
+    }
+}
@@ -1,20 +1,14 @@
 package com.anudip.project;
 
 import java.time.Duration;
-import java.util.HashMap;
-import java.util.Map;
 
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.testng.annotations.*;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
-
 /**
  * BaseClass
  * ----------
@@ -24,44 +18,41 @@ public class BaseClass {
 
     public WebDriver driver;
     public WebDriverWait wait;
+    public Duration timeout;
 
     @BeforeClass
     public void setUp() {
         System.out.println("========== TEST EXECUTION STARTED ==========");
 
-        WebDriverManager.chromedriver().setup();
-
-        // Chrome preferences to disable built-in popups
-        Map<String, Object> prefs = new HashMap<>();
-        prefs.put("credentials_enable_service", false);
-        prefs.put("profile.password_manager_enabled", false);
-
-        ChromeOptions options = new ChromeOptions();
-        options.setExperimentalOption("prefs", prefs);
-        options.addArguments("--disable-notifications");
-        options.addArguments("--disable-infobars");
-        options.addArguments("--disable-extensions");
-        options.addArguments("--disable-save-password-bubble");
-        options.addArguments("--disable-popup-blocking");
-
-        driver = new ChromeDriver(options);
-        driver.manage().window().maximize();
-        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(10));
-        wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        if (SharedSession.isEnabled()) {
+            driver = SharedSession.acquire(getClass().getSimpleName());
+        } else {
+            driver = DriverFactory.createDriver();
+            BrowserProcessMonitor.label(driver, getClass().getSimpleName());
+        }
+        // Real 10s timeout under emulation unless -Demulation.scaleTimeouts=true
+        timeout = Duration.ofSeconds(10L * EmulationProfile.current().effectiveTimeoutFactor());
+        driver.manage().timeouts().implicitlyWait(timeout);
+        wait = new WebDriverWait(driver, timeout);
 
-        driver.get("https://www.saucedemo.com/");
+        driver.get(DriverFactory.BASE_URL);
         System.out.println("🚀 Browser launched & URL opened");
     }
 
     /* ---------- Common Login ---------- */
     public void login() {
-        System.out.println("➡ Performing Login");
+        login("standard_user", "secret_sauce");
+    }
+
+    /* ---------- Login as any user ---------- */
+    public void login(String username, String password) {
+        System.out.println("➡ Performing Login as " + username);
 
         driver.findElement(By.id("user-name")).clear();
-        driver.findElement(By.id("user-name")).sendKeys("standard_user");
+        driver.findElement(By.id("user-name")).sendKeys(username);
 
         driver.findElement(By.id("password")).clear();
-        driver.findElement(By.id("password")).sendKeys("secret_sauce");
+        driver.findElement(By.id("password")).sendKeys(password);
 
         driver.findElement(By.id("login-button")).click();
         System.out.println("✔ Login submitted");
@@ -85,6 +76,20 @@ public class BaseClass {
         }
     }
 
+    /* ---------- Wait for element text (observer wait, polling fallback) ---------- */
+    public void waitForText(By locator, String text) {
+        if (!DomWaits.textPresent(driver, locator, text, timeout)) {
+            wait.until(ExpectedConditions.textToBePresentInElementLocated(locator, text));
+        }
+    }
+
+    /* ---------- Wait for an exact element count (observer wait, polling fallback) ---------- */
+    public void waitForCount(By locator, int count) {
+        if (!DomWaits.count(driver, locator, count, timeout)) {
+            wait.until(ExpectedConditions.numberOfElementsToBe(locator, count));
+        }
+    }
+
     /* ---------- Logout ---------- */
     public void logout() {
         System.out.println("➡ Performing Logout");
@@ -95,10 +100,24 @@ public class BaseClass {
         System.out.println("✔ Logout successful");
     }
 
+    /* ---------- Health sample for reused sessions ---------- */
+    @AfterMethod(alwaysRun = true)
+    public void sampleSessionHealth() {
+        if (SharedSession.isEnabled()) {
+            SharedSession.afterTest(getClass().getSimpleName());
+        }
+    }
+
     @AfterClass
     public void tearDown() {
+        if (SharedSession.isEnabled()) {
+            SharedSession.release(getClass().getSimpleName());
+            System.out.println("♻ Browser kept for next class");
+            System.out.println("========== TEST EXECUTION ENDED ==========");
+            return;
+        }
         if (driver != null) {
-            driver.quit();
+            DriverFactory.quit(driver);
         }
         System.out.println("🛑 Browser closed");
         System.out.println("========== TEST EXECUTION ENDED ==========");
@@ -0,0 +1,112 @@
+package com.anudip.project;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.bidi.log.LogLevel;
+import org.openqa.selenium.bidi.module.LogInspector;
+import org.openqa.selenium.bidi.module.Network;
+
+/**
+ * BrowserEventCollector
+ * ---------------------
+ * Subscribes to WebDriver BiDi events of one browser session: uncaught
+ * JS exceptions, console errors, failed requests and HTTP error responses.
+ * Events are pushed by the browser, so collecting them costs no extra
+ * round trips; they are buffered in a lock-free queue until
+ * BrowserEventListener drains them into the current test result.
+ *
+ * Disable with -Dbidi.events=false
+ */
+public class BrowserEventCollector {
+    private static final Logger log = LogManager.getLogger(BrowserEventCollector.class);
+
+    public static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("bidi.events", "true"));
+
+    /* ---------- One browser event ---------- */
+    public enum Kind { JS_EXCEPTION, CONSOLE_ERROR, NETWORK_ERROR, HTTP_ERROR }
+
+    public static class Event {
+        public final Kind kind;
+        public final String text;
+
+        Event(Kind kind, String text) {
+            this.kind = kind;
+            this.text = text;
+        }
+
+        @Override
+        public String toString() {
+            return kind + ": " + text;
+        }
+    }
+
+    private static final Map<WebDriver, BrowserEventCollector> COLLECTORS =
+            Collections.synchronizedMap(new IdentityHashMap<>());
+
+    private final ConcurrentLinkedQueue<Event> events = new ConcurrentLinkedQueue<>();
+    private final LogInspector logInspector;
+    private final Network network;
+
+    private BrowserEventCollector(WebDriver bidiDriver) {
+        logInspector = new LogInspector(bidiDriver);
+        logInspector.onJavaScriptException(e -> events.add(new Event(Kind.JS_EXCEPTION, e.getText())));
+        logInspector.onConsoleEntry(e -> {
+            if (e.getLevel() == LogLevel.ERROR) {
+                events.add(new Event(Kind.CONSOLE_ERROR, e.getText()));
+            }
+        });
+
+        network = new Network(bidiDriver);
+        network.onFetchError(e -> events.add(
+                new Event(Kind.NETWORK_ERROR, e.getRequest().getUrl() + " " + e.getErrorText())));
+        network.onResponseCompleted(r -> {
+            if (r.getResponseData().getStatus() >= 400) {
+                events.add(new Event(Kind.HTTP_ERROR,
+                        r.getResponseData().getStatus() + " " + r.getResponseData().getUrl()));
+            }
+        });
+    }
+
+    /* ---------- Lifecycle, called from DriverFactory ---------- */
+
+    /** Subscribe on the raw BiDi driver, keyed by the driver tests use. */
+    public static void attach(WebDriver bidiDriver, WebDriver testDriver) {
+        if (!ENABLED) {
+            return;
+        }
+        try {
+            COLLECTORS.put(testDriver, new BrowserEventCollector(bidiDriver));
+        } catch (Exception e) {
+            log.warn("BiDi events not available: {}", e.getMessage());
+        }
+    }
+
+    public static void detach(WebDriver driver) {
+        BrowserEventCollector collector = COLLECTORS.remove(driver);
+        if (collector != null) {
+            collector.logInspector.close();
+            collector.network.close();
+        }
+    }
+
+    /* ---------- Drain buffered events (empty list if none) ---------- */
+    public static List<Event> drain(WebDriver driver) {
+        BrowserEventCollector collector = COLLECTORS.get(driver);
+        List<Event> drained = new ArrayList<>();
+        if (collector != null) {
+            Event e;
+            while ((e = collector.events.poll()) != null) {
+                drained.add(e);
+            }
+        }
+        return drained;
+    }
+}
@@ -0,0 +1,64 @@
+package com.anudip.project;
+
+import java.util.List;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+
+/**
+ * BrowserEventListener
+ * --------------------
+ * Attaches the browser events collected during each test to its TestNG
+ * result (attribute "browserEvents" and the reporter output). With
+ * -Dfail.on.js.error=true a passing test fails if the page threw an
+ * uncaught JS exception while it ran.
+ */
+public class BrowserEventListener implements IInvokedMethodListener {
+    private static final Logger log = LogManager.getLogger(BrowserEventListener.class);
+
+    private static final boolean FAIL_ON_JS_ERROR = Boolean.getBoolean("fail.on.js.error");
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult result) {
+        BaseClass test = testOf(method, result);
+        if (test != null) {
+            // Events from before this test belong to nobody
+            BrowserEventCollector.drain(test.driver);
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult result) {
+        BaseClass test = testOf(method, result);
+        if (test == null) {
+            return;
+        }
+        List<BrowserEventCollector.Event> events = BrowserEventCollector.drain(test.driver);
+        if (events.isEmpty()) {
+            return;
+        }
+        result.setAttribute("browserEvents", events);
+        boolean jsError = false;
+        for (BrowserEventCollector.Event e : events) {
+            Reporter.log(e.toString());
+            log.warn("{}: {}", result.getName(), e);
+            jsError |= e.kind == BrowserEventCollector.Kind.JS_EXCEPTION;
+        }
+        if (FAIL_ON_JS_ERROR && jsError && result.getStatus() == ITestResult.SUCCESS) {
+            result.setStatus(ITestResult.FAILURE);
+            result.setThrowable(new AssertionError("Uncaught JS error during test: " + events));
+        }
+    }
+
+    private static BaseClass testOf(IInvokedMethod method, ITestResult result) {
+        Object instance = result.getInstance();
+        if (!method.isTestMethod() || !(instance instanceof BaseClass) || ((BaseClass) instance).driver == null) {
+            return null;
+        }
+        return (BaseClass) instance;
+    }
+}
@@ -0,0 +1,333 @@
+package com.anudip.project;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * BrowserProcessMonitor
+ * ---------------------
+ * Samples the memory (RSS) and CPU of every browser session through /proc
+ * on Linux. A session is the chromedriver process (found once by its --port)
+ * plus every chrome process below it; the process tree is read once per
+ * interval and shared by all sessions. Peak cost is kept per label, which
+ * BaseClass sets to the test class name.
+ *
+ * For AdaptivePoolSizer it also keeps a recent per-session peak that
+ * decays each interval, so the pool can grow again when sessions get lighter.
+ *
+ * Config: -Dmonitor.browsers=false to disable, -Dmonitor.interval.ms (default 1000),
+ *         -Dmonitor.peak.decay (recent peak kept per interval, default 0.95)
+ * Report: test-output/browser-resources.csv
+ */
+public class BrowserProcessMonitor {
+    private static final Logger log = LogManager.getLogger(BrowserProcessMonitor.class);
+
+    private static final Path PROC = Paths.get("/proc");
+    private static final long INTERVAL_MS = Long.getLong("monitor.interval.ms", 1000);
+    private static final boolean ENABLED =
+            Boolean.parseBoolean(System.getProperty("monitor.browsers", "true")) && Files.isDirectory(PROC);
+    private static final long CLOCK_TICKS_PER_SEC = 100;
+    private static final double PEAK_DECAY = Double.parseDouble(System.getProperty("monitor.peak.decay", "0.95"));
+
+    /* ---------- One tracked browser session ---------- */
+    static class Session {
+        final int driverPort;
+        volatile String label;
+        volatile int driverPid = -1;
+        long lastCpuTicks = -1;
+        long lastSampleNanos;
+        long currentRssKb;
+        boolean sampled;
+
+        Session(int driverPort, String label) {
+            this.driverPort = driverPort;
+            this.label = label;
+        }
+    }
+
+    /* ---------- Aggregated cost per label ---------- */
+    static class Usage {
+        long samples;
+        long peakRssKb;
+        double cpuPctSum;
+        double peakCpuPct;
+    }
+
+    private static final Map<WebDriver, Session> SESSIONS = Collections.synchronizedMap(new IdentityHashMap<>());
+    private static final Map<String, Usage> USAGE = new TreeMap<>();
+    private static volatile long recentPeakKb;
+    private static ScheduledExecutorService sampler;
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /* ---------- Session lifecycle ---------- */
+    public static void register(WebDriver driver, int driverPort) {
+        if (!ENABLED) {
+            return;
+        }
+        Session session = new Session(driverPort, "unassigned");
+        resolvePid(session);
+        SESSIONS.put(driver, session);
+        startSampler();
+    }
+
+    /** Attribute the session's cost to a test class (or any other label). */
+    public static void label(WebDriver driver, String label) {
+        Session session = SESSIONS.get(driver);
+        if (session != null) {
+            session.label = label;
+        }
+    }
+
+    /** Takes a final sample, stops tracking and rewrites the report. */
+    public static void unregister(WebDriver driver) {
+        Session session = SESSIONS.get(driver);
+        if (session == null) {
+            return;
+        }
+        try {
+            sample(session, childMap());
+        } catch (IOException e) {
+            log.debug("Final process sample failed: {}", e.toString());
+        }
+        SESSIONS.remove(driver);
+        writeReport();
+    }
+
+    /* ---------- Figures for AdaptivePoolSizer ---------- */
+
+    /** Recent (decaying) peak RSS of a single session, in MB (0 if nothing sampled yet). */
+    public static long recentSessionRssMb() {
+        return recentPeakKb / 1024;
+    }
+
+    /** Current RSS of all sampled live sessions together, in MB. */
+    public static long liveRssMb() {
+        long kb = 0;
+        synchronized (SESSIONS) {
+            for (Session s : SESSIONS.values()) {
+                kb += s.currentRssKb;
+            }
+        }
+        return kb / 1024;
+    }
+
+    /** Live sessions, and how many of them have no sample yet. */
+    public static int liveSessions() {
+        return SESSIONS.size();
+    }
+
+    public static int unsampledSessions() {
+        int n = 0;
+        synchronized (SESSIONS) {
+            for (Session s : SESSIONS.values()) {
+                if (!s.sampled) {
+                    n++;
+                }
+            }
+        }
+        return n;
+    }
+
+    /* ---------- Sampling ---------- */
+    private static synchronized void startSampler() {
+        if (sampler != null) {
+            return;
+        }
+        sampler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "browser-monitor");
+            t.setDaemon(true);
+            return t;
+        });
+        sampler.scheduleAtFixedRate(() -> {
+            List<Session> live;
+            synchronized (SESSIONS) {
+                live = new ArrayList<>(SESSIONS.values());
+            }
+            if (live.isEmpty()) {
+                return;
+            }
+            Map<Integer, List<Integer>> children;
+            try {
+                children = childMap();
+            } catch (IOException e) {
+                log.debug("Process tree read failed: {}", e.toString());
+                return;
+            }
+            long largestKb = 0;
+            for (Session s : live) {
+                sample(s, children);
+                largestKb = Math.max(largestKb, s.currentRssKb);
+            }
+            // Follow rises at once, let the peak fade when sessions get lighter
+            recentPeakKb = Math.max(largestKb, (long) (recentPeakKb * PEAK_DECAY));
+        }, INTERVAL_MS, INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    /** Finds the session's chromedriver; retried by sample() until it shows up. */
+    private static void resolvePid(Session session) {
+        try {
+            Integer pid = findChromedriver(session.driverPort);
+            if (pid != null) {
+                session.driverPid = pid;
+            }
+        } catch (IOException e) {
+            log.debug("Chromedriver lookup failed: {}", e.toString());
+        }
+    }
+
+    private static void sample(Session session, Map<Integer, List<Integer>> children) {
+        try {
+            if (session.driverPid < 0) {
+                resolvePid(session);
+                if (session.driverPid < 0) {
+                    return;
+                }
+            }
+            long rssKb = 0;
+            long cpuTicks = 0;
+            for (int pid : processTree(session.driverPid, children)) {
+                rssKb += rssKb(pid);
+                cpuTicks += cpuTicks(pid);
+            }
+
+            long now = System.nanoTime();
+            double cpuPct = 0;
+            synchronized (session) {
+                if (session.lastCpuTicks >= 0) {
+                    double seconds = (now - session.lastSampleNanos) / 1e9;
+                    cpuPct = (cpuTicks - session.lastCpuTicks) * 100.0 / CLOCK_TICKS_PER_SEC / seconds;
+                }
+                session.lastCpuTicks = cpuTicks;
+                session.lastSampleNanos = now;
+                session.currentRssKb = rssKb;
+                session.sampled = true;
+            }
+
+            synchronized (USAGE) {
+                Usage u = USAGE.computeIfAbsent(session.label, k -> new Usage());
+                u.samples++;
+                u.peakRssKb = Math.max(u.peakRssKb, rssKb);
+                u.cpuPctSum += cpuPct;
+                u.peakCpuPct = Math.max(u.peakCpuPct, cpuPct);
+            }
+        } catch (Exception e) {
+            log.debug("Process sample failed: {}", e.toString());
+        }
+    }
+
+    /* ---------- /proc helpers ---------- */
+    /** Children of every process, from one pass over /proc. */
+    private static Map<Integer, List<Integer>> childMap() throws IOException {
+        Map<Integer, List<Integer>> children = new HashMap<>();
+        try (DirectoryStream<Path> dirs = Files.newDirectoryStream(PROC, "[0-9]*")) {
+            for (Path dir : dirs) {
+                String[] stat = stat(dir);
+                if (stat != null) {
+                    children.computeIfAbsent(Integer.parseInt(stat[1]), k -> new ArrayList<>())
+                            .add(Integer.parseInt(dir.getFileName().toString()));
+                }
+            }
+        }
+        return children;
+    }
+
+    private static Integer findChromedriver(int port) throws IOException {
+        String portArg = "--port=" + port;
+        try (DirectoryStream<Path> dirs = Files.newDirectoryStream(PROC, "[0-9]*")) {
+            for (Path dir : dirs) {
+                try {
+                    // Arguments are NUL-separated; match whole arguments so --port=95 never matches --port=9515
+                    String[] argv = new String(Files.readAllBytes(dir.resolve("cmdline")), StandardCharsets.UTF_8)
+                            .split("\0");
+                    if (argv[0].contains("chromedriver") && Arrays.asList(argv).contains(portArg)) {
+                        return Integer.parseInt(dir.getFileName().toString());
+                    }
+                } catch (IOException e) {
+                    // process exited while scanning
+                }
+            }
+        }
+        return null;
+    }
+
+    private static List<Integer> processTree(int root, Map<Integer, List<Integer>> children) {
+        List<Integer> tree = new ArrayList<>();
+        tree.add(root);
+        for (int i = 0; i < tree.size(); i++) {
+            tree.addAll(children.getOrDefault(tree.get(i), Collections.emptyList()));
+        }
+        return tree;
+    }
+
+    private static long rssKb(int pid) {
+        try {
+            for (String line : Files.readAllLines(PROC.resolve(pid + "/status"), StandardCharsets.UTF_8)) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("[^0-9]", ""));
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // process exited
+        }
+        return 0;
+    }
+
+    private static long cpuTicks(int pid) {
+        String[] stat = stat(PROC.resolve(String.valueOf(pid)));
+        // fields after the command: [0]=state [1]=ppid ... [11]=utime [12]=stime
+        return stat == null ? 0 : Long.parseLong(stat[11]) + Long.parseLong(stat[12]);
+    }
+
+    /** /proc/<pid>/stat fields that follow "(comm)", which may contain spaces. */
+    private static String[] stat(Path dir) {
+        try {
+            String raw = new String(Files.readAllBytes(dir.resolve("stat")), StandardCharsets.UTF_8);
+            return raw.substring(raw.lastIndexOf(')') + 2).split(" ");
+        } catch (IOException | StringIndexOutOfBoundsException e) {
+            return null;
+        }
+    }
+
+    /* ---------- Report: peak per-session cost per label ---------- */
+    private static void writeReport() {
+        Path report = Paths.get("test-output", "browser-resources.csv");
+        try {
+            Files.createDirectories(report.getParent());
+            try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(report, StandardCharsets.UTF_8))) {
+                out.println("label,samples,peakRssMb,avgCpuPct,peakCpuPct");
+                synchronized (USAGE) {
+                    for (Map.Entry<String, Usage> e : USAGE.entrySet()) {
+                        Usage u = e.getValue();
+                        out.printf("%s,%d,%d,%.1f,%.1f%n", e.getKey(), u.samples, u.peakRssKb / 1024,
+                                u.samples == 0 ? 0 : u.cpuPctSum / u.samples, u.peakCpuPct);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Could not write {}: {}", report, e.getMessage());
+        }
+    }
+}
@@ -33,6 +33,7 @@ public class CheckoutFlowTests extends BaseClass {
 	* Expected Result:
 	* User should be redirected to Products page.
 	*/
+    @Precondition(loggedIn = false, page = "")
     @Test(priority = 16)
     public void TC16_loginForCheckout() {
         log.info("TC16: Login for checkout flow");
@@ -54,6 +55,7 @@ public class CheckoutFlowTests extends BaseClass {
     * Expected Result:
     * Product should be added successfully.
     */
+    @Precondition
     @Test(priority = 17)
     public void TC17_addProduct() {
         log.info("TC17: Add product to cart");
@@ -73,6 +75,7 @@ public class CheckoutFlowTests extends BaseClass {
     * Expected Result:
     * Cart page should be displayed.
     */
+    @Precondition(cart = "sauce-labs-backpack")
     @Test(priority = 18)
     public void TC18_openCart() {
         log.info("TC18: Open cart page");
@@ -92,6 +95,7 @@ public class CheckoutFlowTests extends BaseClass {
     * Expected Result:
     * Checkout information page should open.
     */
+    @Precondition(page = "cart.html", cart = "sauce-labs-backpack")
     @Test(priority = 19)
     public void TC19_clickCheckout() {
         log.info("TC19: Click checkout button");
@@ -111,6 +115,7 @@ public class CheckoutFlowTests extends BaseClass {
     * Expected Result:
     * Details should be entered successfully.
     */
+    @Precondition(page = "checkout-step-one.html", cart = "sauce-labs-backpack")
     @Test(priority = 20)
     public void TC20_enterCheckoutDetails() {
         log.info("TC20: Enter checkout details");
@@ -133,6 +138,7 @@ public class CheckoutFlowTests extends BaseClass {
     * Expected Result:
     * User should navigate to checkout overview page.
     */
+    @Precondition(page = "checkout-step-one.html", cart = "sauce-labs-backpack", replay = "TC20_enterCheckoutDetails")
     @Test(priority = 21)
     public void TC21_continueCheckout() {
         log.info("TC21: Continue checkout");
@@ -155,6 +161,7 @@ public class CheckoutFlowTests extends BaseClass {
     * Expected Result:
     * Summary information should be visible.
     */
+    @Precondition(page = "checkout-step-two.html", cart = "sauce-labs-backpack")
     @Test(priority = 22)
     public void TC22_verifyCheckoutOverview() {
         log.info("TC22: Verify checkout overview page");
@@ -175,6 +182,7 @@ public class CheckoutFlowTests extends BaseClass {
     * Expected Result:
     * Order should be placed successfully.
     */
+    @Precondition(page = "checkout-step-two.html", cart = "sauce-labs-backpack")
     @Test(priority = 23)
     public void TC23_finishOrder() {
         log.info("TC23: Finish the order");
@@ -194,6 +202,7 @@ public class CheckoutFlowTests extends BaseClass {
     * Expected Result:
     * Confirmation page should be displayed.
     */
+    @Precondition(page = "checkout-complete.html")
     @Test(priority = 24)
     public void TC24_verifyOrderConfirmation() {
         log.info("TC24: Verify order confirmation");
@@ -215,6 +224,7 @@ public class CheckoutFlowTests extends BaseClass {
 * Expected Result:
 * Products page should be displayed.
 */
+    @Precondition(page = "checkout-complete.html")
     @Test(priority = 25)
     public void TC25_backToProducts() {
         log.info("TC25: Back to products page");
@@ -234,6 +244,7 @@ public class CheckoutFlowTests extends BaseClass {
     * Expected Result:
     * Cart should contain no items.
     */
+    @Precondition(page = "checkout-step-two.html", cart = "sauce-labs-backpack", replay = "TC23_finishOrder")
     @Test(priority = 26)
     public void TC26_verifyCartEmptyAfterOrder() {
         log.info("TC26: Verify cart is empty");
@@ -256,6 +267,7 @@ public class CheckoutFlowTests extends BaseClass {
 * Expected Result:
 * User should return to products page.
 */
+    @Precondition(page = "cart.html")
     @Test(priority = 27)
     public void TC27_continueShopping() {
         log.info("TC27: Continue shopping");
@@ -275,6 +287,7 @@ public class CheckoutFlowTests extends BaseClass {
     * Expected Result:
     * URL should contain 'inventory'.
     */
+    @Precondition
     @Test(priority = 28)
     public void TC28_verifyProductsPageAgain() {
         log.info("TC28: Verify products page again");
@@ -293,6 +306,7 @@ public class CheckoutFlowTests extends BaseClass {
     * Expected Result:
     * User should be logged out successfully.
     */
+    @Precondition
     @Test(priority = 29)
     public void TC29_logout() {
         log.info("TC29: Logout after checkout");
@@ -311,6 +325,7 @@ public class CheckoutFlowTests extends BaseClass {
     * Expected Result:
     * User should be redirected to login page.
     */
+    @Precondition(replay = "TC29_logout")
     @Test(priority = 30)
     public void TC30_verifyLoginPageAfterLogout() {
         log.info("TC30: Verify login page after logout");
@@ -0,0 +1,78 @@
+package com.anudip.project;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+/**
+ * CommandTraceListener
+ * --------------------
+ * Logs every WebDriver / WebElement call at DEBUG. These lines only
+ * reach the per-test ring buffer, so they cost no disk I/O on passes.
+ * Keys typed into password fields are logged as ****.
+ */
+public class CommandTraceListener implements WebDriverListener {
+    private static final Logger log = LogManager.getLogger(CommandTraceListener.class);
+
+    public static boolean isEnabled() {
+        return log.isDebugEnabled();
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        if (log.isDebugEnabled()) {
+            log.debug("→ {}.{}({})", target.getClass().getSimpleName(), method.getName(), format(target, method, args));
+        }
+    }
+
+    /** Arguments as text; typed keys are flattened, and masked for password fields. */
+    static String format(Object target, Method method, Object[] args) {
+        if (args == null) {
+            return "";
+        }
+        StringBuilder out = new StringBuilder();
+        for (Object arg : args) {
+            if (out.length() > 0) {
+                out.append(", ");
+            }
+            if (arg instanceof CharSequence[]) {
+                StringBuilder keys = new StringBuilder();
+                for (CharSequence key : (CharSequence[]) arg) {
+                    keys.append(key);
+                }
+                out.append('"').append(isPasswordField(target, method) ? "****" : keys).append('"');
+            } else if (arg instanceof Object[]) {
+                out.append(Arrays.deepToString((Object[]) arg));
+            } else {
+                out.append(arg);
+            }
+        }
+        return out.toString();
+    }
+
+    private static boolean isPasswordField(Object target, Method method) {
+        if (!"sendKeys".equals(method.getName()) || !(target instanceof WebElement)) {
+            return false;
+        }
+        try {
+            return "password".equalsIgnoreCase(((WebElement) target).getDomAttribute("type"));
+        } catch (RuntimeException e) {
+            return true; // cannot tell, do not risk logging a secret
+        }
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        log.debug("← {}", method.getName());
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        log.debug("✘ {} threw {}", method.getName(), String.valueOf(e.getTargetException()));
+    }
+}
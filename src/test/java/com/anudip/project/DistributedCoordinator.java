@@ -0,0 +1,320 @@
+package com.anudip.project;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * DistributedCoordinator
+ * ----------------------
+ * Spawns K worker JVMs (DistributedWorker) and hands out test classes
+ * from a shared queue over local sockets. Workers pull the next class
+ * as soon as they finish one, so a slow class never blocks the others.
+ * Results stream back and are merged into one report.
+ *
+ * A class whose worker dies mid-run goes back on the queue once, and is
+ * recorded as FAIL if it loses a worker again or no worker is left.
+ *
+ * Usage: DistributedCoordinator [testClass ...]   (default: the suite classes)
+ * A worker that sends nothing for worker.read.timeout.ms is treated as
+ * hung: its process is killed and its class recorded as FAIL without a
+ * retry, since a hang would most likely repeat on another worker.
+ *
+ * Config: -Dworkers=K (default 2),
+ *         -Dworker.connect.timeout.ms (default 60000) for workers to report READY,
+ *         -Dworker.read.timeout.ms (default 600000) between two lines from a worker,
+ *         -Dworker.classpath for the worker JVMs (default: this JVM's test classpath)
+ * Report: test-output/distributed-report.csv
+ *
+ * Protocol (one line per message):
+ *   worker -> READY
+ *   coordinator -> RUN <class> | STOP
+ *   worker -> RESULT <class> <method> <status> <ms> ... DONE <class>
+ */
+public class DistributedCoordinator {
+    private static final Logger log = LogManager.getLogger(DistributedCoordinator.class);
+
+    static final List<String> DEFAULT_CLASSES = Arrays.asList(
+            "com.anudip.project.CheckoutFlowTests",
+            "com.anudip.project.LoginAndCartTests",
+            "com.anudip.project.UIAndNegativeTests",
+            "com.anudip.project.LoginMatrixTests");
+
+    private static final long CONNECT_TIMEOUT_MS = Long.getLong("worker.connect.timeout.ms", 60_000);
+    private static final long READ_TIMEOUT_MS = Long.getLong("worker.read.timeout.ms", 600_000);
+    private static final int MAX_ATTEMPTS = 2;
+
+    /** Classes waiting for a worker; also the lock for inFlight and attempts. */
+    private final Deque<String> queue = new ArrayDeque<>();
+    private final Map<String, Integer> attempts = new HashMap<>();
+    private int inFlight;
+    private final List<String> results = Collections.synchronizedList(new ArrayList<>());
+
+    public static void main(String[] args) throws Exception {
+        List<String> classes = args.length > 0 ? Arrays.asList(args) : DEFAULT_CLASSES;
+        int workers = Integer.getInteger("workers", 2);
+        boolean failed = new DistributedCoordinator().run(classes, workers);
+        System.exit(failed ? 1 : 0);
+    }
+
+    /* ---------- Run all classes on K workers, true if anything failed ---------- */
+    public boolean run(List<String> classes, int workers) throws Exception {
+        queue.addAll(classes);
+        long start = System.nanoTime();
+
+        try (ServerSocket server = new ServerSocket(0, workers, InetAddress.getLoopbackAddress())) {
+            Map<String, Process> processes = new LinkedHashMap<>();
+            for (int i = 1; i <= workers; i++) {
+                processes.put("w" + i, spawnWorker(server.getLocalPort(), i));
+            }
+            log.info("Coordinator on port {} with {} workers, {} classes queued",
+                    server.getLocalPort(), workers, classes.size());
+
+            // Accept until every worker said READY, all unconnected ones died, or the deadline passed
+            server.setSoTimeout(1000);
+            long deadline = System.currentTimeMillis() + CONNECT_TIMEOUT_MS;
+            Set<String> connected = new HashSet<>();
+            List<Thread> handlers = new ArrayList<>();
+            while (connected.size() < workers && System.currentTimeMillis() < deadline
+                    && anyAlive(processes, connected)) {
+                Socket socket;
+                try {
+                    socket = server.accept();
+                } catch (SocketTimeoutException e) {
+                    continue;
+                }
+                socket.setSoTimeout((int) CONNECT_TIMEOUT_MS);
+                BufferedReader in = new BufferedReader(
+                        new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                String line;
+                try {
+                    line = in.readLine();
+                } catch (SocketTimeoutException e) {
+                    line = null;
+                }
+                if (line == null || !line.startsWith("READY ")) {
+                    socket.close();
+                    continue;
+                }
+                String worker = line.substring(6);
+                Process process = processes.get(worker);
+                if (process == null || !connected.add(worker)) {
+                    socket.close();
+                    continue;
+                }
+                socket.setSoTimeout((int) READ_TIMEOUT_MS);
+                Thread handler = new Thread(() -> {
+                    try {
+                        serve(socket, in, worker, process);
+                    } catch (IOException e) {
+                        log.error("Worker {} connection failed: {}", worker, e.getMessage());
+                    }
+                }, "worker-handler-" + worker);
+                handler.start();
+                handlers.add(handler);
+            }
+            if (connected.size() < workers) {
+                log.error("Only {}/{} workers connected (see logs/worker-*.log)", connected.size(), workers);
+            }
+            for (Thread handler : handlers) {
+                handler.join();
+            }
+            for (Process p : processes.values()) {
+                if (!p.waitFor(30, TimeUnit.SECONDS)) {
+                    p.destroyForcibly();
+                }
+            }
+        }
+
+        // Anything still queued never ran: no live worker was left to take it
+        synchronized (queue) {
+            for (String cls : queue) {
+                log.error("✘ {} never ran", cls);
+                results.add("- " + cls + " - FAIL 0");
+            }
+            queue.clear();
+        }
+
+        long totalMs = (System.nanoTime() - start) / 1_000_000;
+        return writeReport(Paths.get("test-output", "distributed-report.csv"), totalMs);
+    }
+
+    private static boolean anyAlive(Map<String, Process> processes, Set<String> connected) {
+        for (Map.Entry<String, Process> e : processes.entrySet()) {
+            if (!connected.contains(e.getKey()) && e.getValue().isAlive()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /* ---------- One worker: hand out classes until the queue is empty ---------- */
+    private void serve(Socket socket, BufferedReader in, String worker, Process process) throws IOException {
+        String current = null;
+        try (Socket s = socket;
+                BufferedReader reader = in;
+                PrintWriter out = new PrintWriter(
+                        new OutputStreamWriter(s.getOutputStream(), StandardCharsets.UTF_8), true)) {
+            while (true) {
+                current = nextClass();
+                if (current == null) {
+                    out.println("STOP");
+                    return;
+                }
+                log.info("Worker {} ← {}", worker, current);
+                out.println("RUN " + current);
+                String line;
+                while ((line = reader.readLine()) != null && !line.startsWith("DONE ")) {
+                    if (line.startsWith("RESULT ")) {
+                        results.add(worker + " " + line.substring(7));
+                    }
+                }
+                if (line == null) {
+                    break;
+                }
+                finish(current, worker, false);
+                current = null;
+            }
+        } catch (SocketTimeoutException e) {
+            log.error("✘ Worker {} silent for {} ms during {}, stopping it", worker, READ_TIMEOUT_MS, current);
+            process.destroyForcibly();
+            fail(current, worker);
+            current = null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (current != null) {
+                log.warn("Worker {} disconnected during {}", worker, current);
+                finish(current, worker, true);
+            }
+        }
+    }
+
+    /** Next class to run; waits while other workers may still hand one back. */
+    private String nextClass() throws InterruptedException {
+        synchronized (queue) {
+            while (queue.isEmpty() && inFlight > 0) {
+                queue.wait(1000);
+            }
+            String next = queue.poll();
+            if (next != null) {
+                inFlight++;
+                attempts.merge(next, 1, Integer::sum);
+            }
+            return next;
+        }
+    }
+
+    /** A class finished; if its worker died, requeue it once, then record it as failed. */
+    private void finish(String cls, String worker, boolean crashed) {
+        synchronized (queue) {
+            inFlight--;
+            if (crashed) {
+                if (attempts.get(cls) < MAX_ATTEMPTS) {
+                    log.warn("Requeueing {} for another worker", cls);
+                    queue.add(cls);
+                } else {
+                    log.error("✘ {} lost its worker {} times", cls, MAX_ATTEMPTS);
+                    results.add(worker + " " + cls + " - FAIL 0");
+                }
+            }
+            queue.notifyAll();
+        }
+    }
+
+    /** A class whose worker hung: recorded as failed straight away, never requeued. */
+    private void fail(String cls, String worker) {
+        synchronized (queue) {
+            inFlight--;
+            results.add(worker + " " + cls + " - FAIL 0");
+            queue.notifyAll();
+        }
+    }
+
+    private Process spawnWorker(int port, int id) throws IOException {
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        Files.createDirectories(Paths.get("logs"));
+        ProcessBuilder pb = new ProcessBuilder(java, "-cp", workerClasspath(),
+                DistributedWorker.class.getName(), String.valueOf(port), "w" + id);
+        pb.redirectErrorStream(true);
+        pb.redirectOutput(new File("logs", "worker-" + id + ".log"));
+        return pb.start();
+    }
+
+    /**
+     * Classpath for the worker JVMs. Under a launcher such as exec:java the
+     * java.class.path property is the launcher's own, so prefer an explicit
+     * -Dworker.classpath, then the URLs of the loader that loaded the tests.
+     */
+    static String workerClasspath() {
+        String explicit = System.getProperty("worker.classpath");
+        if (explicit != null && !explicit.trim().isEmpty()) {
+            return explicit;
+        }
+        ClassLoader loader = DistributedCoordinator.class.getClassLoader();
+        if (loader instanceof URLClassLoader) {
+            List<String> entries = new ArrayList<>();
+            for (URL url : ((URLClassLoader) loader).getURLs()) {
+                try {
+                    entries.add(Paths.get(url.toURI()).toString());
+                } catch (URISyntaxException | IllegalArgumentException e) {
+                    log.warn("Skipping classpath entry {}", url);
+                }
+            }
+            if (!entries.isEmpty()) {
+                return String.join(File.pathSeparator, entries);
+            }
+        }
+        return System.getProperty("java.class.path");
+    }
+
+    /* ---------- Merged report: one row per test method ---------- */
+    private boolean writeReport(Path report, long totalMs) throws IOException {
+        Files.createDirectories(report.getParent());
+        int failures = 0;
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(report, StandardCharsets.UTF_8))) {
+            out.println("worker,class,method,status,ms");
+            synchronized (results) {
+                for (String r : results) {
+                    String[] f = r.split(" ");
+                    out.println(String.join(",", f));
+                    if ("FAIL".equals(f[3])) {
+                        failures++;
+                    }
+                }
+            }
+        }
+        log.info("Distributed run: {} results, {} failed, wall time {} ms. Report: {}",
+                results.size(), failures, totalMs, report);
+        return failures > 0;
+    }
+}
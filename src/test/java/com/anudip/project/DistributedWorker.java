@@ -0,0 +1,107 @@
+package com.anudip.project;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.ITestListener;
+import org.testng.ITestNGListener;
+import org.testng.ITestResult;
+import org.testng.TestNG;
+
+/**
+ * DistributedWorker
+ * -----------------
+ * Worker JVM started by DistributedCoordinator. Pulls one test class at
+ * a time, runs it with TestNG in this JVM (its own browsers), and streams
+ * each method result back over the socket. Uses the listeners declared
+ * in testng.xml, the same ones HarnessRunner and surefire run with.
+ *
+ * Usage: DistributedWorker <coordinatorPort> <workerId>
+ */
+public class DistributedWorker {
+    private static final Logger log = LogManager.getLogger(DistributedWorker.class);
+
+    public static void main(String[] args) throws Exception {
+        int port = Integer.parseInt(args[0]);
+        String id = args[1];
+        List<String> listeners = HarnessRunner.suiteListeners();
+
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+                BufferedReader in = new BufferedReader(
+                        new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                PrintWriter out = new PrintWriter(
+                        new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8), true)) {
+            out.println("READY " + id);
+            String line;
+            while ((line = in.readLine()) != null && line.startsWith("RUN ")) {
+                String className = line.substring(4);
+                log.info("Worker {} running {}", id, className);
+                runClass(className, id, listeners, out);
+                out.println("DONE " + className);
+            }
+        }
+        log.info("Worker {} stopped", id);
+    }
+
+    /* ---------- Run one class, reporting every method as it finishes ---------- */
+    private static void runClass(String className, String id, List<String> listeners, PrintWriter out) {
+        TestNG testng = new TestNG();
+        testng.setVerbose(0);
+        testng.setOutputDirectory("test-output/worker-" + id);
+        testng.setListenerClasses(listenerClasses(listeners));
+        testng.addListener(new ITestListener() {
+            @Override
+            public void onTestSuccess(ITestResult result) {
+                send(result, "PASS");
+            }
+
+            @Override
+            public void onTestFailure(ITestResult result) {
+                send(result, "FAIL");
+            }
+
+            @Override
+            public void onTestSkipped(ITestResult result) {
+                send(result, "SKIP");
+            }
+
+            private void send(ITestResult result, String status) {
+                synchronized (out) {
+                    out.println("RESULT " + className + " " + result.getName() + " " + status + " "
+                            + (result.getEndMillis() - result.getStartMillis()));
+                }
+            }
+        });
+        try {
+            testng.setTestClasses(new Class<?>[] { Class.forName(className) });
+            testng.run();
+        } catch (ClassNotFoundException e) {
+            log.error("Unknown test class {}", className);
+            synchronized (out) {
+                out.println("RESULT " + className + " - FAIL 0");
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Class<? extends ITestNGListener>> listenerClasses(List<String> names) {
+        List<Class<? extends ITestNGListener>> classes = new ArrayList<>();
+        for (String name : names) {
+            try {
+                classes.add((Class<? extends ITestNGListener>) Class.forName(name));
+            } catch (ClassNotFoundException e) {
+                log.error("Unknown listener {}", name);
+            }
+        }
+        return classes;
+    }
+}
@@ -0,0 +1,109 @@
+package com.anudip.project;
+
+import java.time.Duration;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * DomWaits
+ * --------
+ * Waits resolved inside the page: one executeAsyncScript call installs a
+ * MutationObserver and returns as soon as the DOM matches, instead of
+ * WebDriverWait polling over the wire every 500 ms.
+ *
+ * Returns false (caller falls back to polling) when the locator cannot be
+ * expressed as CSS or the page navigates away while waiting. A real
+ * timeout is thrown as TimeoutException, without a second polling wait.
+ *
+ * Select with -Dwait.mode=observer (default) or -Dwait.mode=poll.
+ */
+public class DomWaits {
+    private static final Logger log = LogManager.getLogger(DomWaits.class);
+
+    public static final boolean ENABLED = !"poll".equalsIgnoreCase(System.getProperty("wait.mode", "observer"));
+
+    private static final String TEXT_CONDITION =
+            "var e = document.querySelector(sel); return e !== null && e.textContent.indexOf(expected) >= 0;";
+    private static final String COUNT_CONDITION =
+            "return document.querySelectorAll(sel).length === expected;";
+
+    private static final String OBSERVER_JS =
+            "var sel = arguments[0], expected = arguments[1], timeoutMs = arguments[2];"
+            + "var done = arguments[arguments.length - 1];"
+            + "function ok() { %s }"
+            + "if (ok()) { done(true); return; }"
+            + "var timer;"
+            + "var observer = new MutationObserver(function () {"
+            + "  if (ok()) { observer.disconnect(); clearTimeout(timer); done(true); }"
+            + "});"
+            + "observer.observe(document, { childList: true, subtree: true, characterData: true, attributes: true });"
+            + "timer = setTimeout(function () { observer.disconnect(); done(ok()); }, timeoutMs);";
+
+    /* ---------- Element text contains value ---------- */
+    public static boolean textPresent(WebDriver driver, By locator, String text, Duration timeout) {
+        return await(driver, locator, TEXT_CONDITION, text, timeout);
+    }
+
+    /* ---------- Exact number of matching elements ---------- */
+    public static boolean count(WebDriver driver, By locator, int count, Duration timeout) {
+        return await(driver, locator, COUNT_CONDITION, count, timeout);
+    }
+
+    private static boolean await(WebDriver driver, By locator, String condition, Object expected, Duration timeout) {
+        ImpactRecorder.touched(locator);
+        String css = toCss(locator);
+        if (!ENABLED || css == null) {
+            return false;
+        }
+        // Script timeout must outlast the in-page timer; restored afterwards
+        Duration previous = driver.manage().timeouts().getScriptTimeout();
+        driver.manage().timeouts().scriptTimeout(timeout.plusSeconds(2));
+        Object matched;
+        try {
+            matched = ((JavascriptExecutor) driver).executeAsyncScript(
+                    String.format(OBSERVER_JS, condition), css, expected, timeout.toMillis());
+        } catch (ScriptTimeoutException e) {
+            throw new TimeoutException("Expected " + expected + " for " + locator + " within " + timeout, e);
+        } catch (JavascriptException e) {
+            if (!isUnload(e)) {
+                throw e;
+            }
+            log.debug("Observer wait on {} interrupted by navigation, falling back to polling", css);
+            return false;
+        } finally {
+            driver.manage().timeouts().scriptTimeout(previous);
+        }
+        if (!Boolean.TRUE.equals(matched)) {
+            throw new TimeoutException("Expected " + expected + " for " + locator + " within " + timeout);
+        }
+        return true;
+    }
+
+    /** The page navigated or unloaded while the observer was waiting. */
+    private static boolean isUnload(JavascriptException e) {
+        String message = String.valueOf(e.getMessage());
+        return message.contains("unloaded") || message.contains("navigat");
+    }
+
+    /* ---------- By -> CSS selector (null if not expressible) ---------- */
+    static String toCss(By locator) {
+        String s = locator.toString();
+        if (s.startsWith("By.cssSelector: ")) {
+            return s.substring("By.cssSelector: ".length());
+        }
+        if (s.startsWith("By.className: ")) {
+            return "." + s.substring("By.className: ".length());
+        }
+        if (s.startsWith("By.id: ")) {
+            return "[id='" + s.substring("By.id: ".length()) + "']";
+        }
+        return null;
+    }
+}
@@ -0,0 +1,105 @@
+package com.anudip.project;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.logging.LogType;
+import org.openqa.selenium.logging.LoggingPreferences;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+
+/**
+ * DriverFactory
+ * -------------
+ * Single place where Chrome sessions are created, so BaseClass
+ * and the driver pool launch browsers with the same options.
+ */
+public class DriverFactory {
+
+    public static final String BASE_URL = "https://www.saucedemo.com/";
+
+    private static volatile boolean driverResolved;
+
+    public static WebDriver createDriver() {
+        resolveDriverBinary();
+
+        ChromeDriverService service = ChromeDriverService.createDefaultService();
+        ChromeDriver chrome = new ChromeDriver(service, chromeOptions());
+        chrome.manage().window().maximize();
+        EmulationProfile.current().apply(chrome);
+
+        WebDriver driver = chrome;
+
+        // Trace every command at DEBUG for the per-test failure log,
+        // and record touched pages/locators when building the impact map
+        List<WebDriverListener> listeners = new ArrayList<>();
+        if (CommandTraceListener.isEnabled()) {
+            listeners.add(new CommandTraceListener());
+        }
+        if (ImpactRecorder.ENABLED) {
+            listeners.add(new ImpactRecorder());
+        }
+        if (!listeners.isEmpty()) {
+            driver = new EventFiringDecorator<WebDriver>(listeners.toArray(new WebDriverListener[0])).decorate(driver);
+        }
+        BrowserEventCollector.attach(chrome, driver);
+        BrowserProcessMonitor.register(driver, service.getUrl().getPort());
+        return driver;
+    }
+
+    /* ---------- Resolve chromedriver once per JVM, on first use ---------- */
+    private static void resolveDriverBinary() {
+        if (driverResolved) {
+            return;
+        }
+        synchronized (DriverFactory.class) {
+            if (!driverResolved) {
+                WebDriverManager.chromedriver().setup();
+                driverResolved = true;
+            }
+        }
+    }
+
+    /* ---------- Quit a driver and stop monitoring it ---------- */
+    public static void quit(WebDriver driver) {
+        BrowserProcessMonitor.unregister(driver);
+        BrowserEventCollector.detach(driver);
+        driver.quit();
+    }
+
+    /* ---------- Chrome options ---------- */
+    public static ChromeOptions chromeOptions() {
+        // Chrome preferences to disable built-in popups
+        Map<String, Object> prefs = new HashMap<>();
+        prefs.put("credentials_enable_service", false);
+        prefs.put("profile.password_manager_enabled", false);
+
+        ChromeOptions options = new ChromeOptions();
+        options.setExperimentalOption("prefs", prefs);
+        options.addArguments("--disable-notifications");
+        options.addArguments("--disable-infobars");
+        options.addArguments("--disable-extensions");
+        options.addArguments("--disable-save-password-bubble");
+        options.addArguments("--disable-popup-blocking");
+
+        // Keep console messages for failure artifacts
+        LoggingPreferences logs = new LoggingPreferences();
+        logs.enable(LogType.BROWSER, Level.ALL);
+        options.setCapability("goog:loggingPrefs", logs);
+
+        // WebDriver BiDi for pushed console / network events
+        if (BrowserEventCollector.ENABLED) {
+            options.setCapability("webSocketUrl", true);
+        }
+        return options;
+    }
+}
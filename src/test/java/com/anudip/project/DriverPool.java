@@ -0,0 +1,137 @@
+package com.anudip.project;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * DriverPool
+ * ----------
+ * Pool of Chrome sessions shared by parallel tests. Drivers are created
+ * lazily and handed back with release() instead of being quit after every
+ * test. The pool never exceeds its size, and AdaptivePoolSizer lowers the
+ * number of live sessions when browsers would go over the memory ceiling.
+ *
+ * A new driver's slot is reserved under the lock, but the (slow) browser
+ * start happens outside it, so other threads can still take idle drivers
+ * or start their own while one is starting.
+ */
+public class DriverPool {
+    private static final Logger log = LogManager.getLogger(DriverPool.class);
+
+    private final int size;
+    private final AdaptivePoolSizer sizer;
+    private final BlockingQueue<WebDriver> idle = new LinkedBlockingQueue<>();
+    private final List<WebDriver> all = new ArrayList<>();
+    /** Drivers being created right now; guarded by all. */
+    private int starting;
+
+    public DriverPool(int size) {
+        this.size = size;
+        this.sizer = new AdaptivePoolSizer(size);
+    }
+
+    /* ---------- Acquire a driver (creates one while the sizer allows) ---------- */
+    public WebDriver acquire() throws InterruptedException {
+        while (true) {
+            WebDriver driver = idle.poll();
+            if (driver != null) {
+                return driver;
+            }
+            int allowed;
+            boolean reserved;
+            synchronized (all) {
+                allowed = sizer.allowedSessions();
+                reserved = all.size() + starting < allowed;
+                if (reserved) {
+                    starting++;
+                }
+            }
+            if (reserved) {
+                int created;
+                try {
+                    driver = DriverFactory.createDriver();
+                } finally {
+                    synchronized (all) {
+                        starting--;
+                        if (driver != null) {
+                            all.add(driver);
+                        }
+                        created = all.size();
+                    }
+                }
+                log.info("Pool created driver {}/{}", created, allowed);
+                return driver;
+            }
+            // Re-check the allowed size now and then, it may have grown
+            driver = idle.poll(1, TimeUnit.SECONDS);
+            if (driver != null) {
+                return driver;
+            }
+        }
+    }
+
+    /* ---------- Return a driver for the next test (or quit it if over budget) ---------- */
+    public void release(WebDriver driver) {
+        if (driver == null) {
+            return;
+        }
+        // Pooled drivers are not BaseClass tests, so nothing else empties their BiDi event queue
+        int dropped = BrowserEventCollector.drain(driver).size();
+        if (dropped > 0) {
+            log.debug("Dropped {} browser events from a released driver", dropped);
+        }
+        synchronized (all) {
+            if (all.size() > sizer.allowedSessions()) {
+                all.remove(driver);
+                DriverFactory.quit(driver);
+                log.info("Pool shrank to {} drivers", all.size());
+                return;
+            }
+        }
+        idle.offer(driver);
+    }
+
+    /* ---------- Drop a broken driver so its slot can be refilled ---------- */
+    public void discard(WebDriver driver) {
+        if (driver == null) {
+            return;
+        }
+        int left;
+        synchronized (all) {
+            all.remove(driver);
+            left = all.size();
+        }
+        try {
+            DriverFactory.quit(driver);
+        } catch (Exception e) {
+            log.warn("Driver quit failed: {}", e.getMessage());
+        }
+        log.info("Pool discarded a broken driver, {} left", left);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /* ---------- Quit every pooled driver ---------- */
+    public void shutdown() {
+        synchronized (all) {
+            for (WebDriver driver : all) {
+                try {
+                    DriverFactory.quit(driver);
+                } catch (Exception e) {
+                    log.warn("Driver quit failed: {}", e.getMessage());
+                }
+            }
+            all.clear();
+            idle.clear();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.anudip.project;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+
+/**
+ * EmulationProfile
+ * ----------------
+ * Named network / CPU constraints applied through Chrome DevTools (CDP)
+ * when DriverFactory creates a driver, so the flows can be run as a slow
+ * client would see them. Waits keep the real 10s timeout so steps that
+ * only fail under constraints surface; -Demulation.scaleTimeouts=true
+ * multiplies them by timeoutFactor instead.
+ *
+ * Select with -Demulation.profile=slow-3g (default none).
+ */
+public enum EmulationProfile {
+
+    //          latencyMs  downBytes/s  upBytes/s  cpuRate  timeoutFactor
+    NONE(             0,          -1,        -1,       1,       1),
+    FAST_3G(        563,     180_000,    84_375,       1,       2),
+    SLOW_3G(       2000,      50_000,    50_000,       1,       4),
+    CPU_4X(           0,          -1,        -1,       4,       2),
+    SLOW_3G_CPU_4X(2000,      50_000,    50_000,       4,       5);
+
+    private static final Logger log = LogManager.getLogger(EmulationProfile.class);
+
+    public final long latencyMs;
+    public final long downloadBps;
+    public final long uploadBps;
+    public final int cpuRate;
+    public final int timeoutFactor;
+
+    EmulationProfile(long latencyMs, long downloadBps, long uploadBps, int cpuRate, int timeoutFactor) {
+        this.latencyMs = latencyMs;
+        this.downloadBps = downloadBps;
+        this.uploadBps = uploadBps;
+        this.cpuRate = cpuRate;
+        this.timeoutFactor = timeoutFactor;
+    }
+
+    /* ---------- Profile selected for this run ---------- */
+    public static EmulationProfile current() {
+        String name = System.getProperty("emulation.profile", "none");
+        for (EmulationProfile profile : values()) {
+            if (profile.label().equals(name.trim().toLowerCase().replace('_', '-'))) {
+                return profile;
+            }
+        }
+        StringBuilder valid = new StringBuilder();
+        for (EmulationProfile profile : values()) {
+            valid.append(valid.length() == 0 ? "" : ", ").append(profile.label());
+        }
+        throw new IllegalArgumentException("Unknown -Demulation.profile=" + name + " (valid: " + valid + ")");
+    }
+
+    /** Wait multiplier for this run: 1 unless -Demulation.scaleTimeouts=true. */
+    public int effectiveTimeoutFactor() {
+        return Boolean.getBoolean("emulation.scaleTimeouts") ? timeoutFactor : 1;
+    }
+
+    /** Name as used on the command line, e.g. "slow-3g". */
+    public String label() {
+        return name().toLowerCase().replace('_', '-');
+    }
+
+    /* ---------- Apply to a Chrome session ---------- */
+    public void apply(WebDriver driver) {
+        if (this == NONE) {
+            return;
+        }
+        HasCdp cdp = (HasCdp) driver;
+        if (latencyMs > 0 || downloadBps > 0) {
+            Map<String, Object> network = new HashMap<>();
+            network.put("offline", false);
+            network.put("latency", latencyMs);
+            network.put("downloadThroughput", downloadBps);
+            network.put("uploadThroughput", uploadBps);
+            cdp.executeCdpCommand("Network.enable", new HashMap<>());
+            cdp.executeCdpCommand("Network.emulateNetworkConditions", network);
+        }
+        if (cpuRate > 1) {
+            Map<String, Object> cpu = new HashMap<>();
+            cpu.put("rate", cpuRate);
+            cdp.executeCdpCommand("Emulation.setCPUThrottlingRate", cpu);
+        }
+        log.info("Emulation profile {} applied", label());
+    }
+}
@@ -0,0 +1,166 @@
+package com.anudip.project;
+
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+/**
+ * FailedTestRerunner
+ * ------------------
+ * Reruns only the failed (and skipped) test methods of a previous run.
+ * Each method gets its @Precondition state rebuilt by StateSetup instead
+ * of replaying the priority chain, and first-run vs rerun outcomes are
+ * written to a flake report.
+ *
+ * Usage: FailedTestRerunner [testng-results.xml] [flake-report.csv]
+ * Defaults: test-output/testng-results.xml, test-output/flake-report.csv
+ */
+public class FailedTestRerunner {
+    private static final Logger log = LogManager.getLogger(FailedTestRerunner.class);
+
+    /* ---------- One failed method from the first run ---------- */
+    static class FailedTest {
+        final String className;
+        final String methodName;
+        final String firstStatus;
+        final long firstMs;
+        String rerunStatus = "NOT_RUN";
+        long rerunMs;
+
+        FailedTest(String className, String methodName, String firstStatus, long firstMs) {
+            this.className = className;
+            this.methodName = methodName;
+            this.firstStatus = firstStatus;
+            this.firstMs = firstMs;
+        }
+
+        String verdict() {
+            if ("PASS".equals(rerunStatus)) {
+                return "FLAKY";
+            }
+            return "NOT_RUN".equals(rerunStatus) ? "UNKNOWN" : "BROKEN";
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path results = Paths.get(args.length > 0 ? args[0] : "test-output/testng-results.xml");
+        Path report = Paths.get(args.length > 1 ? args[1] : "test-output/flake-report.csv");
+
+        Map<String, List<FailedTest>> byClass = readFailures(results);
+        if (byClass.isEmpty()) {
+            log.info("No failed tests in {}", results);
+            return;
+        }
+
+        List<FailedTest> all = new ArrayList<>();
+        for (Map.Entry<String, List<FailedTest>> entry : byClass.entrySet()) {
+            // One bad class must not cost the report for the others
+            try {
+                rerunClass(entry.getKey(), entry.getValue());
+            } catch (Exception e) {
+                log.error("✘ Rerun of {} aborted: {}", entry.getKey(), e.toString());
+            }
+            all.addAll(entry.getValue());
+        }
+        writeReport(report, all);
+
+        long broken = all.stream().filter(t -> "BROKEN".equals(t.verdict())).count();
+        log.info("Rerun finished: {} tests, {} still failing. Report: {}", all.size(), broken, report);
+        if (broken > 0) {
+            System.exit(1);
+        }
+    }
+
+    /* ---------- Read FAIL/SKIP test methods from testng-results.xml ---------- */
+    static Map<String, List<FailedTest>> readFailures(Path results) throws Exception {
+        Document doc = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(results.toFile());
+        Map<String, List<FailedTest>> byClass = new LinkedHashMap<>();
+
+        NodeList classes = doc.getElementsByTagName("class");
+        for (int i = 0; i < classes.getLength(); i++) {
+            Element cls = (Element) classes.item(i);
+            NodeList methods = cls.getElementsByTagName("test-method");
+            for (int j = 0; j < methods.getLength(); j++) {
+                Element m = (Element) methods.item(j);
+                String status = m.getAttribute("status");
+                if ("true".equals(m.getAttribute("is-config")) || "PASS".equals(status)) {
+                    continue;
+                }
+                byClass.computeIfAbsent(cls.getAttribute("name"), k -> new ArrayList<>())
+                        .add(new FailedTest(cls.getAttribute("name"), m.getAttribute("name"), status,
+                                Long.parseLong(m.getAttribute("duration-ms"))));
+            }
+        }
+        return byClass;
+    }
+
+    /* ---------- One browser per class, fresh state per method ---------- */
+    static void rerunClass(String className, List<FailedTest> tests) throws Exception {
+        Class<?> testClass = Class.forName(className);
+        if (!BaseClass.class.isAssignableFrom(testClass)) {
+            // e.g. LoginMatrixTests: own driver pool, data-provider rows
+            log.warn("Skipping {}: not a BaseClass test, left as NOT_RUN", className);
+            return;
+        }
+        BaseClass instance = (BaseClass) testClass.getDeclaredConstructor().newInstance();
+        try {
+            instance.setUp();
+            for (FailedTest test : tests) {
+                Method method;
+                try {
+                    method = testClass.getMethod(test.methodName);
+                } catch (NoSuchMethodException e) {
+                    log.warn("Skipping {}.{}: no parameterless method, left as NOT_RUN", className, test.methodName);
+                    continue;
+                }
+                long start = System.nanoTime();
+                try {
+                    StateSetup.apply(instance, method);
+                    method.invoke(instance);
+                    test.rerunStatus = "PASS";
+                } catch (InvocationTargetException e) {
+                    test.rerunStatus = "FAIL";
+                    log.error("✘ {} failed on rerun: {}", test.methodName, e.getCause().toString());
+                } catch (Exception e) {
+                    test.rerunStatus = "FAIL";
+                    log.error("✘ {} state setup failed: {}", test.methodName, e.toString());
+                }
+                test.rerunMs = (System.nanoTime() - start) / 1_000_000;
+                log.info("{}.{}: {} -> {} ({} ms)", className, test.methodName,
+                        test.firstStatus, test.rerunStatus, test.rerunMs);
+            }
+        } finally {
+            instance.tearDown();
+        }
+    }
+
+    /* ---------- First run vs rerun, one row per test ---------- */
+    static void writeReport(Path report, List<FailedTest> tests) throws Exception {
+        if (report.getParent() != null) {
+            Files.createDirectories(report.getParent());
+        }
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(report, StandardCharsets.UTF_8))) {
+            out.println("class,method,firstStatus,firstMs,rerunStatus,rerunMs,verdict");
+            for (FailedTest t : tests) {
+                out.println(t.className + "," + t.methodName + "," + t.firstStatus + "," + t.firstMs + ","
+                        + t.rerunStatus + "," + t.rerunMs + "," + t.verdict());
+            }
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.anudip.project;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.logging.LogEntry;
+import org.openqa.selenium.logging.LogType;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+
+/**
+ * FailureArtifactListener
+ * -----------------------
+ * On test failure grabs the screenshot (raw base64), page source and
+ * browser console log, then hands decoding, gzip and disk writes to a
+ * background executor so the next test can start right away.
+ *
+ * The work queue is bounded; when it is full the test thread writes the
+ * artifacts itself (backpressure). Writing stops once the run reaches
+ * its size cap.
+ *
+ * Config: artifacts.queue (default 8), artifacts.max.mb (default 200)
+ * Output: test-output/failures/<Class>.<method>/
+ */
+public class FailureArtifactListener implements ITestListener, ISuiteListener {
+    private static final Logger log = LogManager.getLogger(FailureArtifactListener.class);
+
+    private static final long MAX_BYTES = Long.getLong("artifacts.max.mb", 200) * 1024 * 1024;
+
+    private final AtomicLong written = new AtomicLong();
+    private final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 2, 30, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(Integer.getInteger("artifacts.queue", 8)),
+            r -> {
+                Thread t = new Thread(r, "failure-artifacts");
+                t.setDaemon(true);
+                return t;
+            },
+            new ThreadPoolExecutor.CallerRunsPolicy());
+
+    /* ---------- Capture on the test thread: raw data only ---------- */
+    @Override
+    public void onTestFailure(ITestResult result) {
+        Object instance = result.getInstance();
+        if (!(instance instanceof BaseClass) || ((BaseClass) instance).driver == null) {
+            return;
+        }
+        WebDriver driver = ((BaseClass) instance).driver;
+        Path dir = Paths.get("test-output", "failures",
+                result.getTestClass().getRealClass().getSimpleName() + "." + result.getName());
+
+        // Three separate calls (Chrome's console log is only reachable through the
+        // logging endpoint), each captured on its own so one failure keeps the rest
+        String screenshot = null;
+        String source = null;
+        List<LogEntry> console = null;
+        try {
+            screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BASE64);
+        } catch (Exception e) {
+            log.warn("No screenshot for {}: {}", result.getName(), e.getMessage());
+        }
+        try {
+            source = driver.getPageSource();
+        } catch (Exception e) {
+            log.warn("No page source for {}: {}", result.getName(), e.getMessage());
+        }
+        try {
+            console = driver.manage().logs().get(LogType.BROWSER).getAll();
+        } catch (Exception e) {
+            log.warn("No console log for {}: {}", result.getName(), e.getMessage());
+        }
+
+        final String png = screenshot;
+        final String html = source;
+        final List<LogEntry> logs = console;
+        executor.execute(() -> write(dir, png, html, logs));
+    }
+
+    /* ---------- Background: decode, compress, write ---------- */
+    private void write(Path dir, String screenshot, String source, List<LogEntry> console) {
+        try {
+            Files.createDirectories(dir);
+            if (screenshot != null) {
+                save(dir.resolve("screenshot.png"), Base64.getMimeDecoder().decode(screenshot), false);
+            }
+            if (source != null) {
+                save(dir.resolve("page.html.gz"), source.getBytes(StandardCharsets.UTF_8), true);
+            }
+            if (console != null) {
+                StringBuilder text = new StringBuilder();
+                for (LogEntry entry : console) {
+                    text.append(entry.toString()).append('\n');
+                }
+                save(dir.resolve("console.log.gz"), text.toString().getBytes(StandardCharsets.UTF_8), true);
+            }
+            log.info("Failure artifacts written to {}", dir);
+        } catch (IOException e) {
+            log.warn("Could not write artifacts to {}: {}", dir, e.getMessage());
+        }
+    }
+
+    private void save(Path file, byte[] data, boolean gzip) throws IOException {
+        byte[] bytes = gzip ? gzip(data) : data;
+        // Reserve the on-disk size in one step so parallel writers cannot overshoot the cap together
+        long before;
+        do {
+            before = written.get();
+            if (before + bytes.length > MAX_BYTES) {
+                log.warn("Artifact size cap reached, skipping {}", file);
+                return;
+            }
+        } while (!written.compareAndSet(before, before + bytes.length));
+        try {
+            Files.write(file, bytes);
+        } catch (IOException e) {
+            written.addAndGet(-bytes.length);
+            throw e;
+        }
+    }
+
+    private static byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(data.length / 4 + 64);
+        try (OutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(data);
+        }
+        return buffer.toByteArray();
+    }
+
+    /* ---------- Let pending writes finish before the JVM exits ---------- */
+    @Override
+    public void onFinish(ISuite suite) {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(60, TimeUnit.SECONDS)) {
+                log.warn("Failure artifact writes did not finish in time");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.anudip.project;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.imageio.ImageIO;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * ImageValidator
+ * --------------
+ * Checks product images without going through the browser: image URLs
+ * are read from the page in one script call, fetched in parallel over
+ * plain HTTP, and reduced to a 64-bit perceptual hash (dHash) in memory.
+ *
+ * An image fails when it cannot be fetched or decoded, when
+ * image-baseline.properties expects another image file or a hash further
+ * away than the threshold, or when two products share a URL or (almost)
+ * identical pixels. Products without a hash baseline are reported
+ * separately (as problems with image.baseline.strict). Hashes are cached by URL and
+ * ETag, so unchanged images cost one 304 response.
+ *
+ * Config: image.hash.threshold (max Hamming distance to baseline, default 10),
+ *         image.duplicate.threshold (max distance between products, default 2),
+ *         image.baseline.strict (fail on products without a hash baseline),
+ *         image.fetch.threads (default 6)
+ */
+public class ImageValidator {
+    private static final Logger log = LogManager.getLogger(ImageValidator.class);
+
+    private static final int THRESHOLD = Integer.getInteger("image.hash.threshold", 10);
+    private static final int DUPLICATE_THRESHOLD = Integer.getInteger("image.duplicate.threshold", 2);
+    private static final boolean STRICT = Boolean.getBoolean("image.baseline.strict");
+    private static final int THREADS = Integer.getInteger("image.fetch.threads", 6);
+
+    private static final Path CACHE_FILE = Paths.get("test-output", "image-hash-cache.properties");
+    private static final Path NEW_BASELINE = Paths.get("test-output", "image-baseline.properties");
+
+    private static final String IMAGES_JS =
+            "return Array.from(document.querySelectorAll('.inventory_item')).map(function (item) {"
+            + "  return [item.querySelector('.inventory_item_name').textContent,"
+            + "          item.querySelector('img.inventory_item_img, .inventory_item_img img').src];"
+            + "});";
+
+    /** url -> "etag|hash", shared by every check in this JVM and saved between runs. */
+    private static final Map<String, String> CACHE = new ConcurrentHashMap<>();
+    static {
+        Properties saved = new Properties();
+        if (Files.exists(CACHE_FILE)) {
+            try (InputStream in = Files.newInputStream(CACHE_FILE)) {
+                saved.load(in);
+            } catch (IOException e) {
+                log.warn("Ignoring image hash cache: {}", e.getMessage());
+            }
+        }
+        for (String url : saved.stringPropertyNames()) {
+            CACHE.put(url, saved.getProperty(url));
+        }
+    }
+
+    /* ---------- Outcome of one validation ---------- */
+    public static class Result {
+        public final List<String> problems = new ArrayList<>();
+        /** Products whose image was checked without a hash baseline. */
+        public final List<String> unbaselined = new ArrayList<>();
+    }
+
+    /* ---------- Validate every product image on the current page ---------- */
+    public static Result validate(WebDriver driver) throws InterruptedException, IOException {
+        @SuppressWarnings("unchecked")
+        List<List<String>> items = (List<List<String>>) ((JavascriptExecutor) driver).executeScript(IMAGES_JS);
+
+        Map<String, Future<Long>> pending = new LinkedHashMap<>();
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (List<String> item : items) {
+                String url = item.get(1);
+                pending.put(item.get(0), pool.submit(() -> hash(url)));
+            }
+            Result result = new Result();
+            Map<String, String> urls = new LinkedHashMap<>();
+            Map<String, Long> hashes = new LinkedHashMap<>();
+            for (List<String> item : items) {
+                urls.put(item.get(0), item.get(1));
+                try {
+                    hashes.put(item.get(0), pending.get(item.get(0)).get());
+                } catch (ExecutionException e) {
+                    // 404, timeout or undecodable: report it and keep checking the others
+                    log.warn("Image for {} failed: {}", item.get(0), e.getCause().toString());
+                    result.problems.add("broken image: " + item.get(1));
+                }
+            }
+            saveCache();
+            compare(urls, hashes, result);
+            return result;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /* ---------- Baseline and duplicate checks ---------- */
+    static void compare(Map<String, String> urls, Map<String, Long> hashes, Result result) throws IOException {
+        List<String> problems = result.problems;
+        Properties baseline = new Properties();
+        try (InputStream in = ImageValidator.class.getClassLoader().getResourceAsStream("image-baseline.properties")) {
+            if (in != null) {
+                baseline.load(in);
+            }
+        }
+
+        Properties recorded = new Properties();
+        List<String> names = new ArrayList<>(hashes.keySet());
+        for (int i = 0; i < names.size(); i++) {
+            String name = names.get(i);
+            String url = urls.get(name);
+            long hash = hashes.get(name);
+            String file = url.substring(url.lastIndexOf('/') + 1);
+            recorded.setProperty(name + ".file", file.contains(".") ? file.substring(0, file.indexOf('.')) : file);
+            recorded.setProperty(name + ".hash", Long.toHexString(hash));
+
+            // Expected image file (build hash in the name is ignored)
+            String expectedFile = baseline.getProperty(name + ".file");
+            if (expectedFile != null && !file.startsWith(expectedFile + ".")) {
+                problems.add(name + ": shows " + file + ", expected " + expectedFile);
+            }
+
+            String expectedHash = baseline.getProperty(name + ".hash");
+            if (expectedHash == null) {
+                log.warn("No image hash baseline for {}, recorded {}", name, Long.toHexString(hash));
+                if (STRICT) {
+                    problems.add(name + ": no hash baseline");
+                } else {
+                    result.unbaselined.add(name);
+                }
+            } else {
+                int distance = Long.bitCount(hash ^ Long.parseUnsignedLong(expectedHash, 16));
+                if (distance > THRESHOLD) {
+                    problems.add(name + ": image differs from baseline (distance " + distance + ")");
+                }
+            }
+
+            // Different products should never share an image: same URL or (almost) the same pixels
+            for (int j = 0; j < i; j++) {
+                String other = names.get(j);
+                int distance = Long.bitCount(hash ^ hashes.get(other));
+                if (url.equals(urls.get(other)) || distance <= DUPLICATE_THRESHOLD) {
+                    problems.add(name + ": same image as " + other + " (distance " + distance + ")");
+                }
+            }
+        }
+
+        Files.createDirectories(NEW_BASELINE.getParent());
+        try (OutputStream out = Files.newOutputStream(NEW_BASELINE)) {
+            recorded.store(out, "Product image files and dHash recorded by ImageValidator");
+        }
+    }
+
+    /* ---------- Fetch (conditional on ETag) and hash one image ---------- */
+    static long hash(String url) throws IOException {
+        String cached = CACHE.get(url);
+        HttpURLConnection conn = (HttpURLConnection) new URL(url).openConnection();
+        conn.setConnectTimeout(10_000);
+        conn.setReadTimeout(10_000);
+        if (cached != null) {
+            conn.setRequestProperty("If-None-Match", cached.substring(0, cached.lastIndexOf('|')));
+        }
+        try {
+            int status = conn.getResponseCode();
+            if (status == HttpURLConnection.HTTP_NOT_MODIFIED && cached != null) {
+                return Long.parseUnsignedLong(cached.substring(cached.lastIndexOf('|') + 1), 16);
+            }
+            if (status != HttpURLConnection.HTTP_OK) {
+                throw new IOException("HTTP " + status + " for " + url);
+            }
+            BufferedImage image;
+            try (InputStream in = conn.getInputStream()) {
+                image = ImageIO.read(in);
+            }
+            if (image == null) {
+                throw new IOException("Not a readable image: " + url);
+            }
+            long hash = dHash(image);
+            String etag = conn.getHeaderField("ETag");
+            if (etag != null) {
+                CACHE.put(url, etag + "|" + Long.toHexString(hash));
+            }
+            return hash;
+        } finally {
+            conn.disconnect();
+        }
+    }
+
+    /** Difference hash: 9x8 grayscale, one bit per "left pixel brighter than right". */
+    static long dHash(BufferedImage image) {
+        BufferedImage small = new BufferedImage(9, 8, BufferedImage.TYPE_BYTE_GRAY);
+        Graphics2D g = small.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g.drawImage(image, 0, 0, 9, 8, null);
+        g.dispose();
+
+        long hash = 0;
+        for (int y = 0; y < 8; y++) {
+            for (int x = 0; x < 8; x++) {
+                int left = small.getRaster().getSample(x, y, 0);
+                int right = small.getRaster().getSample(x + 1, y, 0);
+                hash = (hash << 1) | (left > right ? 1 : 0);
+            }
+        }
+        return hash;
+    }
+
+    private static void saveCache() {
+        Properties saved = new Properties();
+        saved.putAll(CACHE);
+        try {
+            Files.createDirectories(CACHE_FILE.getParent());
+            try (OutputStream out = Files.newOutputStream(CACHE_FILE)) {
+                saved.store(out, "url = etag|dHash");
+            }
+        } catch (IOException e) {
+            log.warn("Could not save image hash cache: {}", e.getMessage());
+        }
+    }
+}
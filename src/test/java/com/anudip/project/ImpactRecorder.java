@@ -0,0 +1,160 @@
+package com.anudip.project;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.support.events.WebDriverListener;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestResult;
+
+/**
+ * ImpactRecorder
+ * --------------
+ * Traces which pages and locators each test method touches, for
+ * ImpactSelector. Enabled with -Dimpact.record=true: DriverFactory adds it
+ * as a WebDriver listener, and it must also be registered as a TestNG
+ * listener so it knows which test is running.
+ *
+ * Pages are the URLs seen after each WebDriver call of the test (one extra
+ * getCurrentUrl per call while recording), so tests that only read the
+ * title or URL still map to their page. Locators come from WebDriver finds
+ * and from DomWaits, whose in-page waits never reach findElement. Tests
+ * that touched neither (browser-free tests) are left out.
+ *
+ * Output: test-output/test-impact-recorded.csv (same format as test-impact.csv;
+ *         ',' ';' and '\' inside a locator are backslash-escaped)
+ */
+public class ImpactRecorder implements WebDriverListener, IInvokedMethodListener, ISuiteListener {
+    private static final Logger log = LogManager.getLogger(ImpactRecorder.class);
+
+    public static final boolean ENABLED = Boolean.getBoolean("impact.record");
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+    private static final Map<String, Set<String>> PAGES = new TreeMap<>();
+    private static final Map<String, Set<String>> LOCATORS = new TreeMap<>();
+
+    /* ---------- TestNG side: which test is running ---------- */
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult result) {
+        if (ENABLED && method.isTestMethod()) {
+            String key = result.getTestClass().getRealClass().getSimpleName() + "," + result.getName();
+            CURRENT.set(key);
+            synchronized (PAGES) {
+                PAGES.computeIfAbsent(key, k -> new TreeSet<>());
+                LOCATORS.computeIfAbsent(key, k -> new TreeSet<>());
+            }
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult result) {
+        CURRENT.remove();
+    }
+
+    /* ---------- WebDriver side: pages and locators ---------- */
+    @Override
+    public void beforeFindElement(WebDriver driver, By locator) {
+        touched(locator);
+    }
+
+    @Override
+    public void beforeFindElements(WebDriver driver, By locator) {
+        touched(locator);
+    }
+
+    @Override
+    public void afterAnyWebDriverCall(WebDriver driver, Method method, Object[] args, Object result) {
+        String key = CURRENT.get();
+        if (key == null) {
+            return;
+        }
+        String page;
+        try {
+            page = pageOf(driver.getCurrentUrl());
+        } catch (WebDriverException e) {
+            return; // session already quit
+        }
+        synchronized (PAGES) {
+            PAGES.get(key).add(page);
+        }
+    }
+
+    /** A locator the running test used; also called by DomWaits. */
+    static void touched(By locator) {
+        String key = CURRENT.get();
+        if (key == null) {
+            return;
+        }
+        String value = locator.toString();
+        value = value.substring(value.indexOf(": ") + 2);
+        synchronized (PAGES) {
+            LOCATORS.get(key).add(value);
+        }
+    }
+
+    /** "https://www.saucedemo.com/cart.html" -> "cart", base URL -> "login". */
+    static String pageOf(String url) {
+        String path = url.substring(url.lastIndexOf('/') + 1);
+        int query = path.indexOf('?');
+        if (query >= 0) {
+            path = path.substring(0, query);
+        }
+        path = path.replace(".html", "");
+        return path.isEmpty() ? "login" : path;
+    }
+
+    /** Backslash-escape the map separators, e.g. a CSS list "a, b" -> "a\, b". */
+    static String escape(String locator) {
+        return locator.replace("\\", "\\\\").replace(",", "\\,").replace(";", "\\;");
+    }
+
+    /* ---------- Write the recorded map ---------- */
+    @Override
+    public void onFinish(ISuite suite) {
+        if (!ENABLED) {
+            return;
+        }
+        Path report = Paths.get("test-output", "test-impact-recorded.csv");
+        try {
+            Files.createDirectories(report.getParent());
+            try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(report, StandardCharsets.UTF_8))) {
+                out.println("# class,method,pages (;-separated),locators (;-separated)");
+                synchronized (PAGES) {
+                    for (String key : PAGES.keySet()) {
+                        if (PAGES.get(key).isEmpty() && LOCATORS.get(key).isEmpty()) {
+                            continue;
+                        }
+                        List<String> locators = new ArrayList<>();
+                        for (String locator : LOCATORS.get(key)) {
+                            locators.add(escape(locator));
+                        }
+                        out.println(key + "," + String.join(";", PAGES.get(key)) + ","
+                                + String.join(";", locators));
+                    }
+                }
+            }
+            log.info("Recorded test impact map written to {}", report);
+        } catch (IOException e) {
+            log.warn("Could not write {}: {}", report, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.anudip.project;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * ImpactSelector
+ * --------------
+ * Builds a minimal TestNG suite containing only the test methods that
+ * touch the changed pages or locators, according to test-impact.csv
+ * (declared) or a map recorded by ImpactRecorder. The generated suite
+ * registers PreconditionListener, so each selected method gets its
+ * @Precondition state (and any replay steps) without the rest of its chain.
+ *
+ * Usage: ImpactSelector --pages=cart,checkout-step-one --locators=shopping_cart_badge
+ *                       [--map=test-output/test-impact-recorded.csv] [--out=test-output/testng-impact.xml]
+ */
+public class ImpactSelector {
+    private static final Logger log = LogManager.getLogger(ImpactSelector.class);
+
+    private static final String PACKAGE = "com.anudip.project.";
+
+    /* ---------- One row of the impact map ---------- */
+    static class Entry {
+        final String className;
+        final String method;
+        final Set<String> pages;
+        final Set<String> locators;
+
+        Entry(String className, String method, Set<String> pages, Set<String> locators) {
+            this.className = className;
+            this.method = method;
+            this.pages = pages;
+            this.locators = locators;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        Set<String> pages = new HashSet<>();
+        Set<String> locators = new HashSet<>();
+        String map = null;
+        Path out = Paths.get("test-output", "testng-impact.xml");
+        for (String arg : args) {
+            if (arg.startsWith("--pages=")) {
+                pages.addAll(split(arg.substring(8), ","));
+            } else if (arg.startsWith("--locators=")) {
+                locators.addAll(split(arg.substring(11), ","));
+            } else if (arg.startsWith("--map=")) {
+                map = arg.substring(6);
+            } else if (arg.startsWith("--out=")) {
+                out = Paths.get(arg.substring(6));
+            }
+        }
+
+        List<Entry> entries = readMap(map);
+        Map<String, List<String>> selected = select(entries, pages, locators);
+
+        int count = 0;
+        for (List<String> methods : selected.values()) {
+            count += methods.size();
+        }
+        if (count == 0) {
+            log.info("No tests touch pages {} or locators {}", pages, locators);
+            return;
+        }
+        writeSuite(out, selected);
+        log.info("Selected {} of {} tests into {}", count, entries.size(), out);
+    }
+
+    /* ---------- Methods touching any changed page or locator, by class ---------- */
+    static Map<String, List<String>> select(List<Entry> entries, Set<String> pages, Set<String> locators) {
+        Set<String> known = new HashSet<>();
+        Map<String, List<String>> selected = new LinkedHashMap<>();
+        for (Entry e : entries) {
+            known.addAll(e.locators);
+            if (!Collections.disjoint(e.pages, pages) || !Collections.disjoint(e.locators, locators)) {
+                selected.computeIfAbsent(e.className, k -> new ArrayList<>()).add(e.method);
+            }
+        }
+        for (String locator : locators) {
+            if (!known.contains(locator)) {
+                log.warn("Locator {} is not in the impact map, no test selected for it", locator);
+            }
+        }
+        return selected;
+    }
+
+    /* ---------- Impact map: file path, or test-impact.csv from the classpath ---------- */
+    static List<Entry> readMap(String map) throws IOException {
+        InputStream in = map != null
+                ? Files.newInputStream(Paths.get(map))
+                : ImpactSelector.class.getClassLoader().getResourceAsStream("test-impact.csv");
+        if (in == null) {
+            throw new IOException("test-impact.csv not found on classpath");
+        }
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            return parseMap(reader);
+        }
+    }
+
+    /** Rows of class,method,pages,locators; locators may contain backslash-escaped ',' and ';'. */
+    static List<Entry> parseMap(BufferedReader reader) throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.trim().isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            List<String> cols = splitEscaped(line, ',');
+            while (cols.size() < 4) {
+                cols.add("");
+            }
+            Set<String> locators = new HashSet<>();
+            for (String locator : splitEscaped(cols.get(3), ';')) {
+                if (!locator.trim().isEmpty()) {
+                    locators.add(unescape(locator).trim());
+                }
+            }
+            entries.add(new Entry(cols.get(0).trim(), cols.get(1).trim(), split(cols.get(2), ";"), locators));
+        }
+        return entries;
+    }
+
+    /** Split on separator, skipping backslash-escaped ones (escapes are kept). */
+    static List<String> splitEscaped(String value, char separator) {
+        List<String> parts = new ArrayList<>();
+        StringBuilder part = new StringBuilder();
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                part.append(c).append(value.charAt(++i));
+            } else if (c == separator) {
+                parts.add(part.toString());
+                part.setLength(0);
+            } else {
+                part.append(c);
+            }
+        }
+        parts.add(part.toString());
+        return parts;
+    }
+
+    static String unescape(String value) {
+        StringBuilder out = new StringBuilder();
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            out.append(c == '\\' && i + 1 < value.length() ? value.charAt(++i) : c);
+        }
+        return out.toString();
+    }
+
+    /* ---------- Suite XML in the same layout as testng.xml ---------- */
+    static void writeSuite(Path out, Map<String, List<String>> selected) throws IOException {
+        if (out.getParent() != null) {
+            Files.createDirectories(out.getParent());
+        }
+        try (PrintWriter w = new PrintWriter(Files.newBufferedWriter(out, StandardCharsets.UTF_8))) {
+            w.println("<?xml version=\"1.0\" encoding=\"UTF-8\"?>");
+            w.println("<!DOCTYPE suite SYSTEM \"https://testng.org/testng-1.0.dtd\">");
+            w.println("<suite name=\"SauceDemoImpactSuite\" verbose=\"2\" parallel=\"false\">");
+            w.println();
+            // The suite's listeners plus PreconditionListener for state replay
+            List<String> listeners = new ArrayList<>(HarnessRunner.suiteListeners());
+            listeners.add(PACKAGE + "PreconditionListener");
+            w.println("    <listeners>");
+            for (String listener : listeners) {
+                w.println("        <listener class-name=\"" + listener + "\"/>");
+            }
+            w.println("    </listeners>");
+            for (Map.Entry<String, List<String>> e : selected.entrySet()) {
+                w.println();
+                w.println("    <test name=\"Impact-" + e.getKey() + "\">");
+                w.println("        <classes>");
+                w.println("            <class name=\"" + PACKAGE + e.getKey() + "\">");
+                w.println("                <methods>");
+                for (String method : e.getValue()) {
+                    w.println("                    <include name=\"" + method + "\"/>");
+                }
+                w.println("                </methods>");
+                w.println("            </class>");
+                w.println("        </classes>");
+                w.println("    </test>");
+            }
+            w.println();
+            w.println("</suite>");
+        }
+    }
+
+    private static Set<String> split(String value, String separator) {
+        Set<String> parts = new HashSet<>();
+        for (String part : value.split(separator)) {
+            if (!part.trim().isEmpty()) {
+                parts.add(part.trim());
+            }
+        }
+        return parts;
+    }
+}
@@ -0,0 +1,113 @@
+package com.anudip.project;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/*
+* ImpactSelection
+* ===============
+* Browser-free checks of the pre-merge test selection over a fixture map:
+* - Page match, locator match and unknown locator
+* - Escaped locators (CSS selector lists) survive the CSV round trip
+* - URL -> page names used by ImpactRecorder
+*/
+public class ImpactSelectorTests {
+	protected static final Logger log = LogManager.getLogger(ImpactSelectorTests.class);
+
+    private static final String FIXTURE =
+            "# class,method,pages,locators\n"
+            + "LoginAndCartTests,TC02_loginValidUser,login;inventory,user-name;password;login-button\n"
+            + "LoginAndCartTests,TC07_openCart,inventory;cart,shopping_cart_link;cart_item\n"
+            + "CheckoutFlowTests,TC15_checkoutInfo,cart;checkout-step-one,checkout;first-name\n"
+            + "UIAndNegativeTests,TC37_verifyProductImages,inventory,"
+            + ImpactRecorder.escape("div.inventory_item_img, img.inventory_item_img") + ";inventory_item_img\n";
+
+    private List<ImpactSelector.Entry> entries;
+
+    @BeforeClass
+    public void readFixture() throws IOException {
+        entries = ImpactSelector.parseMap(new BufferedReader(new StringReader(FIXTURE)));
+        Assert.assertEquals(entries.size(), 4);
+    }
+
+    /*
+    * Test Case Name: Select By Page
+    * Description:
+    * A changed page selects every test that visits it, grouped by class.
+    * Expected Result:
+    * Only the cart tests from both classes are selected.
+    */
+    @Test
+    public void selectByPage() {
+        Map<String, List<String>> selected = ImpactSelector.select(entries, set("cart"), set());
+        Assert.assertEquals(selected.get("LoginAndCartTests"), Collections.singletonList("TC07_openCart"));
+        Assert.assertEquals(selected.get("CheckoutFlowTests"), Collections.singletonList("TC15_checkoutInfo"));
+        Assert.assertFalse(selected.containsKey("UIAndNegativeTests"));
+        log.info("✔ Select by page passed");
+    }
+
+    /*
+    * Test Case Name: Select By Locator
+    * Description:
+    * A changed locator selects only the tests that use it, including
+    * a CSS selector list that contains the CSV separator.
+    * Expected Result:
+    * TC02 for login-button, TC37 for the selector list.
+    */
+    @Test
+    public void selectByLocator() {
+        Map<String, List<String>> selected = ImpactSelector.select(entries, set(), set("login-button"));
+        Assert.assertEquals(selected.keySet(), set("LoginAndCartTests"));
+        Assert.assertEquals(selected.get("LoginAndCartTests"), Collections.singletonList("TC02_loginValidUser"));
+
+        selected = ImpactSelector.select(entries, set(), set("div.inventory_item_img, img.inventory_item_img"));
+        Assert.assertEquals(selected.get("UIAndNegativeTests"), Collections.singletonList("TC37_verifyProductImages"));
+        log.info("✔ Select by locator passed");
+    }
+
+    /*
+    * Test Case Name: Unknown Locator
+    * Description:
+    * A locator that no test touches selects nothing.
+    * Expected Result:
+    * Empty selection.
+    */
+    @Test
+    public void unknownLocatorSelectsNothing() {
+        Assert.assertTrue(ImpactSelector.select(entries, set(), set("no-such-locator")).isEmpty());
+        log.info("✔ Unknown locator passed");
+    }
+
+    /*
+    * Test Case Name: Page Names
+    * Description:
+    * Maps SauceDemo URLs to the page names used in the impact map.
+    * Expected Result:
+    * Base URL is "login", query strings and .html are dropped.
+    */
+    @Test
+    public void pageNames() {
+        Assert.assertEquals(ImpactRecorder.pageOf(DriverFactory.BASE_URL), "login");
+        Assert.assertEquals(ImpactRecorder.pageOf("https://www.saucedemo.com/cart.html"), "cart");
+        Assert.assertEquals(ImpactRecorder.pageOf("https://www.saucedemo.com/inventory-item.html?id=4"),
+                "inventory-item");
+        log.info("✔ Page names passed");
+    }
+
+    private static Set<String> set(String... values) {
+        return new HashSet<>(Arrays.asList(values));
+    }
+}
@@ -0,0 +1,64 @@
+package com.anudip.project;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/*
+* LocatorProfile
+* ==============
+* Profiles the locator registry against the live Products page:
+* - TC02's rewrite of a slow text XPath must find the same element
+* - All registered locators are timed, ranked and checked for slow patterns
+*
+* Report: test-output/locator-report.csv
+*/
+public class LocatorProfileTests extends BaseClass {
+	protected static final Logger log = LogManager.getLogger(LocatorProfileTests.class);
+
+    private static final int ITERATIONS = Integer.getInteger("locator.iterations", 20);
+
+    /*
+    * Test Case Name: Verify Locator Rewrite
+    * Description:
+    * Logs in and checks that TC02's hand rewrite (TITLE plus text check)
+    * finds the same element as the text XPath it replaced.
+    * Expected Result:
+    * Same element, with text "Products".
+    */
+    @Test(priority = 1)
+    public void verifyLocatorRewrite() {
+        log.info("Verify locator rewrite");
+        login();
+        wait.until(ExpectedConditions.textToBePresentInElementLocated(PageLocators.TITLE, "Products"));
+
+        By slow = By.xpath("//span[text()='Products']");
+        Assert.assertTrue(LocatorProfiler.isSlow(slow));
+        Assert.assertFalse(LocatorProfiler.isSlow(PageLocators.TITLE));
+        // RemoteWebElement equality is the element reference, so this compares identity
+        Assert.assertEquals(driver.findElement(PageLocators.TITLE), driver.findElement(slow));
+        log.info("✔ Locator rewrite verified");
+    }
+
+    /*
+    * Test Case Name: Profile Locators
+    * Description:
+    * Times each locator on the Products page and writes the ranking,
+    * flagging slow XPath patterns.
+    * Expected Result:
+    * Report file should be written.
+    */
+    @Test(priority = 2)
+    public void profileLocators() throws IOException {
+        log.info("Profile locators ({} iterations)", ITERATIONS);
+        LocatorProfiler.writeReport(driver, Paths.get("test-output", "locator-report.csv"), ITERATIONS);
+        Assert.assertTrue(Paths.get("test-output", "locator-report.csv").toFile().exists());
+        log.info("✔ Locator profile written");
+    }
+}
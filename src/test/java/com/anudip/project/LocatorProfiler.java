@@ -0,0 +1,94 @@
+package com.anudip.project;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * LocatorProfiler
+ * ---------------
+ * Times the PageLocators registry against the live DOM, ranks it
+ * slowest first and flags known-slow patterns (text XPath, deep
+ * descendant XPath) so they can be rewritten by hand.
+ */
+public class LocatorProfiler {
+    private static final Logger log = LogManager.getLogger(LocatorProfiler.class);
+
+    /* ---------- One timed locator ---------- */
+    public static class Timing {
+        public final String name;
+        public final By locator;
+        public final int matches;
+        public final double avgMs;
+
+        Timing(String name, By locator, int matches, double avgMs) {
+            this.name = name;
+            this.locator = locator;
+            this.matches = matches;
+            this.avgMs = avgMs;
+        }
+    }
+
+    /* ---------- Slow pattern detection ---------- */
+    public static boolean isSlow(By locator) {
+        String s = locator.toString();
+        if (!s.startsWith("By.xpath: ")) {
+            return false;
+        }
+        String xpath = s.substring("By.xpath: ".length());
+        boolean textMatch = xpath.contains("text()") || xpath.contains("contains(");
+        boolean deepDescendant = xpath.indexOf("//", 2) >= 0;
+        return textMatch || deepDescendant;
+    }
+
+    /* ---------- Timing ---------- */
+    public static Timing time(WebDriver driver, String name, By locator, int iterations) {
+        Duration implicit = driver.manage().timeouts().getImplicitWaitTimeout();
+        driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+        try {
+            int matches = driver.findElements(locator).size(); // warm-up
+            long start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                driver.findElements(locator);
+            }
+            double avgMs = (System.nanoTime() - start) / 1_000_000.0 / iterations;
+            return new Timing(name, locator, matches, avgMs);
+        } finally {
+            driver.manage().timeouts().implicitlyWait(implicit);
+        }
+    }
+
+    /** Times every locator, slowest first. */
+    public static List<Timing> rank(WebDriver driver, Map<String, By> locators, int iterations) {
+        List<Timing> timings = new ArrayList<>();
+        for (Map.Entry<String, By> e : locators.entrySet()) {
+            timings.add(time(driver, e.getKey(), e.getValue(), iterations));
+        }
+        timings.sort(Comparator.comparingDouble((Timing t) -> t.avgMs).reversed());
+        return timings;
+    }
+
+    /* ---------- Report: registry ranked slowest first ---------- */
+    public static void writeReport(WebDriver driver, Path report, int iterations) throws IOException {
+        Files.createDirectories(report.getParent());
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(report, StandardCharsets.UTF_8))) {
+            out.println("locator,name,matches,avgMs,slowPattern");
+            for (Timing t : rank(driver, PageLocators.all(), iterations)) {
+                out.printf("\"%s\",%s,%d,%.3f,%b%n", t.locator, t.name, t.matches, t.avgMs, isSlow(t.locator));
+            }
+        }
+        log.info("Locator report written to {}", report);
+    }
+}
@@ -0,0 +1,61 @@
+package com.anudip.project;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+
+/**
+ * LogBufferListener
+ * -----------------
+ * Drives TestLogBufferAppender: the in-memory buffer is cleared when a
+ * test starts, dropped when it passes, and written to
+ * logs/failures/<Class>.<method>.log only when it fails. Data-provider
+ * rows get a hash of their parameters in the name (never the values),
+ * e.g. LoginMatrixTests.loginMatrix[5e2f0a1c].log.
+ */
+public class LogBufferListener implements ITestListener {
+    private static final Logger log = LogManager.getLogger(LogBufferListener.class);
+
+    @Override
+    public void onTestStart(ITestResult result) {
+        TestLogBufferAppender.begin();
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        TestLogBufferAppender.discard();
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        TestLogBufferAppender.discard();
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        Path file = Paths.get("logs", "failures", fileName(result));
+        try {
+            log.debug("Failure: {}", String.valueOf(result.getThrowable()));
+            TestLogBufferAppender.flush(file);
+            log.info("Detailed log for {} written to {}", result.getName(), file);
+        } catch (IOException e) {
+            log.warn("Could not write failure log {}: {}", file, e.getMessage());
+        }
+    }
+
+    static String fileName(ITestResult result) {
+        String name = result.getTestClass().getRealClass().getSimpleName() + "." + result.getName();
+        Object[] params = result.getParameters();
+        if (params != null && params.length > 0) {
+            // Hash, not the values: data-provider rows can carry passwords
+            name += "[" + Integer.toHexString(Arrays.deepHashCode(params)) + "]";
+        }
+        return name + ".log";
+    }
+}
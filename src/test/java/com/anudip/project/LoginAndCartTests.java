@@ -30,6 +30,7 @@ public class LoginAndCartTests extends BaseClass {
 	* Expected Result:
 	* Page title should be "Swag Labs".
 	*/
+    @Precondition(loggedIn = false, page = "")
     @Test(priority = 1)
     public void TC01_verifyLoginPageTitle() {
         log.info("TC01: Verify login page title");
@@ -45,12 +46,12 @@ public class LoginAndCartTests extends BaseClass {
     * Expected Result:
     * User should be successfully logged in.
     */
+    @Precondition(loggedIn = false, page = "")
     @Test(priority = 2)
     public void TC02_loginValidUser() {
         log.info("TC02: Login with valid credentials");
         login(); // Reuse BaseClass login
-        wait.until(ExpectedConditions.visibilityOfElementLocated(
-                By.xpath("//span[text()='Products']")));
+        wait.until(ExpectedConditions.textToBePresentInElementLocated(PageLocators.TITLE, "Products"));
         log.info("✔ TC02 Passed");
     }
     /*
@@ -61,6 +62,7 @@ public class LoginAndCartTests extends BaseClass {
     * Expected Result:
     * Page heading should be "Products".
     */
+    @Precondition
     @Test(priority = 3)
     public void TC03_verifyProductsPageTitle() {
         log.info("TC03: Verify Products page title");
@@ -79,6 +81,7 @@ public class LoginAndCartTests extends BaseClass {
     * Expected Result:
     * At least one product should be visible.
     */
+    @Precondition
     @Test(priority = 4)
     public void TC04_verifyProductList() {
         log.info("TC04: Verify product list displayed");
@@ -94,6 +97,7 @@ public class LoginAndCartTests extends BaseClass {
     * Expected Result:
     * Cart badge count should be 1.
     */
+    @Precondition
     @Test(priority = 5)
     public void TC05_addFirstProduct() {
         log.info("TC05: Add first product");
@@ -101,8 +105,7 @@ public class LoginAndCartTests extends BaseClass {
                 By.id("add-to-cart-sauce-labs-backpack"))).click();
 
         // Wait for cart badge to update to 1
-        wait.until(ExpectedConditions.textToBePresentInElementLocated(
-                By.className("shopping_cart_badge"), "1"));
+        waitForText(By.className("shopping_cart_badge"), "1");
         log.info("✔ TC05 Passed");
     }
     /*
@@ -113,6 +116,7 @@ public class LoginAndCartTests extends BaseClass {
     * Expected Result:
     * Cart badge count should update to 2.
     */
+    @Precondition(cart = "sauce-labs-backpack")
     @Test(priority = 6)
     public void TC06_addSecondProduct() {
         log.info("TC06: Add second product");
@@ -120,8 +124,7 @@ public class LoginAndCartTests extends BaseClass {
                 By.id("add-to-cart-sauce-labs-bike-light"))).click();
 
         // Wait for cart badge to update to 2
-        wait.until(ExpectedConditions.textToBePresentInElementLocated(
-                By.className("shopping_cart_badge"), "2"));
+        waitForText(By.className("shopping_cart_badge"), "2");
         log.info("✔ TC06 Passed");
     }
     /*
@@ -132,6 +135,7 @@ public class LoginAndCartTests extends BaseClass {
     * Expected Result:
     * Cart badge should display count as 2.
     */
+    @Precondition(cart = { "sauce-labs-backpack", "sauce-labs-bike-light" })
     @Test(priority = 7)
     public void TC07_verifyCartBadgeCount() {
         log.info("TC07: Verify cart badge count");
@@ -151,6 +155,7 @@ public class LoginAndCartTests extends BaseClass {
     * Expected Result:
     * Cart page should open successfully.
     */
+    @Precondition(cart = { "sauce-labs-backpack", "sauce-labs-bike-light" })
     @Test(priority = 8)
     public void TC08_openCartPage() {
         log.info("TC08: Open cart page");
@@ -166,13 +171,13 @@ public class LoginAndCartTests extends BaseClass {
     * Expected Result:
     * Exactly 2 items should be displayed.
     */
+    @Precondition(page = "cart.html", cart = { "sauce-labs-backpack", "sauce-labs-bike-light" })
     @Test(priority = 9)
     public void TC09_verifyCartItems() {
         log.info("TC09: Verify cart items");
 
         // Wait for both cart items to be present
-        wait.until(ExpectedConditions.numberOfElementsToBe(
-                By.className("cart_item"), 2));
+        waitForCount(By.className("cart_item"), 2);
         Assert.assertEquals(driver.findElements(By.className("cart_item")).size(), 2);
 
         log.info("✔ TC09 Passed");
@@ -185,6 +190,7 @@ public class LoginAndCartTests extends BaseClass {
     * Expected Result:
     * Cart badge count should reduce to 1.
     */
+    @Precondition(page = "cart.html", cart = { "sauce-labs-backpack", "sauce-labs-bike-light" })
     @Test(priority = 10)
     public void TC10_removeOneItem() {
         log.info("TC10: Remove one item from cart");
@@ -194,8 +200,7 @@ public class LoginAndCartTests extends BaseClass {
                 By.id("remove-sauce-labs-backpack"))).click();
 
         // Wait for cart badge to update to 1
-        wait.until(ExpectedConditions.textToBePresentInElementLocated(
-                By.className("shopping_cart_badge"), "1"));
+        waitForText(By.className("shopping_cart_badge"), "1");
 
         log.info("✔ TC10 Passed");
     }
@@ -207,13 +212,14 @@ public class LoginAndCartTests extends BaseClass {
     * Expected Result:
     * Only one item should remain in cart.
     */
+    @Precondition(page = "cart.html", cart = { "sauce-labs-backpack", "sauce-labs-bike-light" },
+            replay = "TC10_removeOneItem")
     @Test(priority = 11)
     public void TC11_verifyCartAfterRemove() {
         log.info("TC11: Verify cart after removal");
 
         // Wait for remaining cart item
-        wait.until(ExpectedConditions.numberOfElementsToBe(
-                By.className("cart_item"), 1));
+        waitForCount(By.className("cart_item"), 1);
         Assert.assertEquals(driver.findElements(By.className("cart_item")).size(), 1);
 
         log.info("✔ TC11 Passed");
@@ -226,6 +232,7 @@ public class LoginAndCartTests extends BaseClass {
     * Expected Result:
     * User should navigate back to Products page.
     */
+    @Precondition(page = "cart.html", cart = "sauce-labs-bike-light")
     @Test(priority = 12)
     public void TC12_continueShopping() {
         log.info("TC12: Continue shopping");
@@ -241,6 +248,7 @@ public class LoginAndCartTests extends BaseClass {
     * Expected Result:
     * URL should contain 'inventory'.
     */
+    @Precondition(cart = "sauce-labs-bike-light")
     @Test(priority = 13)
     public void TC13_verifyBackOnProducts() {
         log.info("TC13: Verify back on products page");
@@ -255,6 +263,7 @@ public class LoginAndCartTests extends BaseClass {
     * Expected Result:
     * Cart badge count should update to 2.
     */
+    @Precondition(cart = "sauce-labs-bike-light")
     @Test(priority = 14)
     public void TC14_addProductAgain() {
         log.info("TC14: Add product again");
@@ -262,8 +271,7 @@ public class LoginAndCartTests extends BaseClass {
                 By.id("add-to-cart-sauce-labs-backpack"))).click();
 
         // Wait for cart badge to update to 2
-        wait.until(ExpectedConditions.textToBePresentInElementLocated(
-                By.className("shopping_cart_badge"), "2"));
+        waitForText(By.className("shopping_cart_badge"), "2");
 
         log.info("✔ TC14 Passed");
     }
@@ -275,6 +283,7 @@ public class LoginAndCartTests extends BaseClass {
     * Expected Result:
     * Cart page should open successfully.
     */
+    @Precondition(cart = { "sauce-labs-bike-light", "sauce-labs-backpack" })
     @Test(priority = 15)
     public void TC15_openCartAgain() {
         log.info("TC15: Open cart again");
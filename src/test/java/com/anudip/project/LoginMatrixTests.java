@@ -0,0 +1,158 @@
+package com.anudip.project;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/*
+* LoginMatrix
+* ===========
+* Data-driven login matrix over every SauceDemo user in users.csv:
+* - Each row runs in parallel on its own pooled driver
+* - Login latency (click -> inventory visible) is recorded per user
+* - Users slower than baseline x factor are flagged as outliers
+*
+* Config (system properties):
+* - driver.pool.size     : pooled browsers (default 3)
+* - login.baseline.ms    : default baseline when users.csv has none (default 1500)
+* - login.outlier.factor : latency > baseline x factor is an outlier (default 2.0)
+*
+* Report: test-output/login-latency.csv
+*/
+public class LoginMatrixTests {
+	protected static final Logger log = LogManager.getLogger(LoginMatrixTests.class);
+
+    private static final long DEFAULT_BASELINE_MS = Long.getLong("login.baseline.ms", 1500);
+    private static final double OUTLIER_FACTOR =
+            Double.parseDouble(System.getProperty("login.outlier.factor", "2.0"));
+
+    private DriverPool pool;
+    private final Map<String, long[]> latencies = new ConcurrentSkipListMap<>();
+
+    @BeforeClass
+    public void setUpPool() {
+        pool = new DriverPool(Integer.getInteger("driver.pool.size", 3));
+        log.info("Login matrix using pool of {} drivers", pool.size());
+    }
+
+    /* ---------- User table from src/test/resources/users.csv ---------- */
+    @DataProvider(name = "users", parallel = true)
+    public Object[][] users() throws IOException {
+        List<Object[]> rows = new ArrayList<>();
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream("users.csv")) {
+            Assert.assertNotNull(in, "users.csv not found on test classpath");
+            BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] cols = line.split(",", -1);
+                long baseline = cols.length > 3 && !cols[3].trim().isEmpty()
+                        ? Long.parseLong(cols[3].trim()) : DEFAULT_BASELINE_MS;
+                rows.add(new Object[] { cols[0].trim(), cols[1].trim(),
+                        Boolean.parseBoolean(cols[2].trim()), baseline });
+            }
+        }
+        return rows.toArray(new Object[0][]);
+    }
+
+    /*
+    * Test Case Name: Login Matrix
+    * Description:
+    * Logs in as each user on a pooled driver, times the login,
+    * then checks the inventory page (or the error for blocked users).
+    * Expected Result:
+    * Valid users reach inventory, blocked users see an error.
+    */
+    @Test(dataProvider = "users")
+    public void loginMatrix(String username, String password, boolean expectLogin, long baselineMs)
+            throws InterruptedException {
+        log.info("Login matrix: {}", username);
+        WebDriver driver = pool.acquire();
+        BrowserProcessMonitor.label(driver, getClass().getSimpleName());
+        try {
+            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(15));
+            driver.get(DriverFactory.BASE_URL);
+
+            wait.until(ExpectedConditions.visibilityOfElementLocated(By.id("user-name"))).sendKeys(username);
+            driver.findElement(By.id("password")).sendKeys(password);
+
+            long start = System.nanoTime();
+            driver.findElement(By.id("login-button")).click();
+            if (expectLogin) {
+                wait.until(ExpectedConditions.visibilityOfElementLocated(By.className("inventory_list")));
+            } else {
+                wait.until(ExpectedConditions.visibilityOfElementLocated(By.cssSelector("[data-test='error']")));
+            }
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+            latencies.put(username, new long[] { elapsedMs, baselineMs });
+
+            if (elapsedMs > baselineMs * OUTLIER_FACTOR) {
+                log.warn("⚠ {} login took {} ms (baseline {} ms)", username, elapsedMs, baselineMs);
+            } else {
+                log.info("{} login took {} ms", username, elapsedMs);
+            }
+
+            if (expectLogin) {
+                Assert.assertTrue(driver.getCurrentUrl().contains("inventory"));
+                Assert.assertTrue(driver.findElements(By.className("inventory_item")).size() > 0);
+            } else {
+                Assert.assertTrue(driver.getCurrentUrl().equals(DriverFactory.BASE_URL));
+            }
+            log.info("✔ Login matrix passed for {}", username);
+        } finally {
+            // Leave the session logged out for the next user, or drop it if it broke
+            try {
+                driver.manage().deleteAllCookies();
+                ((JavascriptExecutor) driver).executeScript("window.localStorage.clear();");
+                pool.release(driver);
+            } catch (Exception e) {
+                log.warn("Cleanup failed for {}, discarding driver: {}", username, e.getMessage());
+                pool.discard(driver);
+            }
+        }
+    }
+
+    /* ---------- Latency report + pool shutdown ---------- */
+    @AfterClass(alwaysRun = true)
+    public void tearDownPool() throws IOException {
+        pool.shutdown();
+
+        Path report = Paths.get("test-output", "login-latency.csv");
+        Files.createDirectories(report.getParent());
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(report, StandardCharsets.UTF_8))) {
+            out.println("username,latencyMs,baselineMs,outlier");
+            for (Map.Entry<String, long[]> e : latencies.entrySet()) {
+                long[] v = e.getValue();
+                out.println(e.getKey() + "," + v[0] + "," + v[1] + "," + (v[0] > v[1] * OUTLIER_FACTOR));
+            }
+        }
+        log.info("Login latency report written to {}", report);
+    }
+}
@@ -0,0 +1,53 @@
+package com.anudip.project;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.openqa.selenium.By;
+
+/**
+ * PageLocators
+ * ------------
+ * Registry of the SauceDemo locators used by the suite, by page,
+ * profiled by LocatorProfiler. Slow XPath found there is rewritten by
+ * hand (e.g. TC02's //span[text()='Products'] is now TITLE plus a text
+ * check).
+ */
+public class PageLocators {
+
+    private static final Map<String, By> ALL = new LinkedHashMap<>();
+
+    /* ---------- Login page ---------- */
+    public static final By USERNAME = register("login.username", By.id("user-name"));
+    public static final By PASSWORD = register("login.password", By.id("password"));
+    public static final By LOGIN_BUTTON = register("login.button", By.id("login-button"));
+    public static final By LOGIN_ERROR = register("login.error", By.cssSelector("[data-test='error']"));
+
+    /* ---------- Products page ---------- */
+    public static final By TITLE = register("products.title", By.className("title"));
+    public static final By INVENTORY_LIST = register("products.list", By.className("inventory_list"));
+    public static final By INVENTORY_ITEM = register("products.item", By.className("inventory_item"));
+    public static final By ITEM_NAME = register("products.itemName", By.className("inventory_item_name"));
+    public static final By ITEM_IMAGE = register("products.itemImage", By.className("inventory_item_img"));
+    public static final By ADD_TO_CART_BUTTONS = register("products.addButtons", By.cssSelector("button.btn_inventory"));
+    public static final By SORT = register("products.sort", By.className("product_sort_container"));
+
+    /* ---------- Header / menu ---------- */
+    public static final By CART_BADGE = register("header.cartBadge", By.className("shopping_cart_badge"));
+    public static final By CART_LINK = register("header.cartLink", By.className("shopping_cart_link"));
+    public static final By MENU_BUTTON = register("menu.open", By.id("react-burger-menu-btn"));
+    public static final By MENU_PANEL = register("menu.panel", By.className("bm-menu"));
+
+    /* ---------- Cart page ---------- */
+    public static final By CART_ITEM = register("cart.item", By.className("cart_item"));
+
+    private static By register(String name, By locator) {
+        ALL.put(name, locator);
+        return locator;
+    }
+
+    public static Map<String, By> all() {
+        return Collections.unmodifiableMap(ALL);
+    }
+}
@@ -0,0 +1,31 @@
+package com.anudip.project;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Precondition
+ * ------------
+ * Browser state a test method expects when it starts, so a single
+ * method can be rerun without replaying the whole priority chain.
+ * StateSetup rebuilds this state directly (session cookie, cart in
+ * localStorage, page URL) and then replays any listed test methods.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Precondition {
+
+    /** Whether the user must be logged in (standard_user). */
+    boolean loggedIn() default true;
+
+    /** Products in the cart, by add-to-cart id suffix, e.g. "sauce-labs-backpack". */
+    String[] cart() default {};
+
+    /** Page relative to the base URL; "" is the login page. */
+    String page() default "inventory.html";
+
+    /** Earlier test methods whose UI side effects cannot be set up directly. */
+    String[] replay() default {};
+}
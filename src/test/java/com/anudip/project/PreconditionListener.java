@@ -0,0 +1,32 @@
+package com.anudip.project;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+
+/**
+ * PreconditionListener
+ * --------------------
+ * Rebuilds each test method's @Precondition state before it runs, so a
+ * suite can include single methods out of a priority chain. Used by the
+ * suites ImpactSelector generates, not by the full testng.xml.
+ */
+public class PreconditionListener implements IInvokedMethodListener {
+    private static final Logger log = LogManager.getLogger(PreconditionListener.class);
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult result) {
+        if (!method.isTestMethod() || !(result.getInstance() instanceof BaseClass)) {
+            return;
+        }
+        try {
+            StateSetup.apply((BaseClass) result.getInstance(),
+                    method.getTestMethod().getConstructorOrMethod().getMethod());
+        } catch (Exception e) {
+            // Let the test run and fail on the missing state, with this as the cause in the log
+            log.error("State setup failed for {}: {}", result.getName(), e.toString());
+        }
+    }
+}
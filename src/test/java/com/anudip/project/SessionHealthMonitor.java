@@ -0,0 +1,108 @@
+package com.anudip.project;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * SessionHealthMonitor
+ * --------------------
+ * Health of a long-lived browser session: JS heap (performance.memory),
+ * DOM node count and open windows, plus the JVM heap. A session that
+ * grew past the thresholds compared to its first sample should be
+ * recycled. Every sample is appended to test-output/session-health.csv,
+ * which is started afresh by the first sample of each run (session
+ * numbers restart every run).
+ *
+ * Thresholds (system properties):
+ * - session.max.heap.growth.mb : JS heap growth since first sample (default 100)
+ * - session.max.dom.nodes      : DOM nodes on the current page (default 5000)
+ * - session.max.windows        : open windows/tabs (default 1)
+ */
+public class SessionHealthMonitor {
+    private static final Logger log = LogManager.getLogger(SessionHealthMonitor.class);
+
+    private static final long MAX_HEAP_GROWTH_MB = Long.getLong("session.max.heap.growth.mb", 100);
+    private static final long MAX_DOM_NODES = Long.getLong("session.max.dom.nodes", 5000);
+    private static final int MAX_WINDOWS = Integer.getInteger("session.max.windows", 1);
+
+    private static final Path REPORT = Paths.get("test-output", "session-health.csv");
+    /** Whether this run has written the report yet; guarded by the class. */
+    private static boolean reportStarted;
+
+    private static final String SAMPLE_JS =
+            "return [window.performance && performance.memory ? performance.memory.usedJSHeapSize : -1,"
+            + " document.getElementsByTagName('*').length];";
+
+    /* ---------- One health sample ---------- */
+    public static class Sample {
+        public final long jsHeapBytes;
+        public final long domNodes;
+        public final int windows;
+        public final long jvmHeapBytes;
+
+        Sample(long jsHeapBytes, long domNodes, int windows, long jvmHeapBytes) {
+            this.jsHeapBytes = jsHeapBytes;
+            this.domNodes = domNodes;
+            this.windows = windows;
+            this.jvmHeapBytes = jvmHeapBytes;
+        }
+    }
+
+    public static Sample sample(WebDriver driver) {
+        @SuppressWarnings("unchecked")
+        List<Number> page = (List<Number>) ((JavascriptExecutor) driver).executeScript(SAMPLE_JS);
+        Runtime rt = Runtime.getRuntime();
+        return new Sample(page.get(0).longValue(), page.get(1).longValue(),
+                driver.getWindowHandles().size(), rt.totalMemory() - rt.freeMemory());
+    }
+
+    /* ---------- Threshold check against the session's first sample ---------- */
+    public static String recycleReason(Sample baseline, Sample current) {
+        if (baseline.jsHeapBytes >= 0 && current.jsHeapBytes >= 0) {
+            long growthMb = (current.jsHeapBytes - baseline.jsHeapBytes) / (1024 * 1024);
+            if (growthMb > MAX_HEAP_GROWTH_MB) {
+                return "JS heap grew " + growthMb + " MB";
+            }
+        }
+        if (current.domNodes > MAX_DOM_NODES) {
+            return current.domNodes + " DOM nodes";
+        }
+        if (current.windows > MAX_WINDOWS) {
+            return current.windows + " windows open";
+        }
+        return null;
+    }
+
+    /* ---------- Trend report ---------- */
+    public static synchronized void record(int session, String label, Sample s, String action) {
+        try {
+            Files.createDirectories(REPORT.getParent());
+            boolean header = !reportStarted;
+            try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(REPORT, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE,
+                    header ? StandardOpenOption.TRUNCATE_EXISTING : StandardOpenOption.APPEND))) {
+                reportStarted = true;
+                if (header) {
+                    out.println("time,session,label,jsHeapMb,domNodes,windows,jvmHeapMb,action");
+                }
+                out.printf("%s,%d,%s,%.1f,%d,%d,%.1f,%s%n", LocalTime.now().withNano(0), session, label,
+                        s.jsHeapBytes < 0 ? -1.0 : s.jsHeapBytes / 1048576.0, s.domNodes, s.windows,
+                        s.jvmHeapBytes / 1048576.0, action);
+            }
+        } catch (IOException e) {
+            log.warn("Could not write {}: {}", REPORT, e.getMessage());
+        }
+    }
+}
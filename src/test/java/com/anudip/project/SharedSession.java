@@ -0,0 +1,153 @@
+package com.anudip.project;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.testng.Reporter;
+
+/**
+ * SharedSession
+ * -------------
+ * One browser kept alive across test classes when -Dsession.reuse=true,
+ * instead of a new Chrome per class. Each class gets the session reset
+ * to the login page; its health is sampled at class boundaries and every
+ * few tests, and the browser is replaced once SessionHealthMonitor
+ * reports it has grown past its thresholds, or when it stops responding.
+ *
+ * Config: session.reuse (default false), session.health.every (tests between samples, default 5)
+ */
+public class SharedSession {
+    private static final Logger log = LogManager.getLogger(SharedSession.class);
+
+    private static final boolean ENABLED = Boolean.getBoolean("session.reuse");
+    private static final int SAMPLE_EVERY = Integer.getInteger("session.health.every", 5);
+
+    private static WebDriver driver;
+    private static SessionHealthMonitor.Sample baseline;
+    private static int sessionNumber;
+    private static int testsSinceSample;
+    private static String pendingRecycle;
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /* ---------- Session for the next test class ---------- */
+    public static synchronized WebDriver acquire(String label) {
+        if (driver != null && pendingRecycle != null) {
+            recycle(label, pendingRecycle);
+        }
+        if (driver == null) {
+            start(label);
+        } else {
+            try {
+                reset();
+            } catch (WebDriverException e) {
+                unresponsive(label, "reset", e);
+            }
+            if (pendingRecycle == null) {
+                check(label, "reuse");
+            }
+            if (pendingRecycle != null) {
+                recycle(label, pendingRecycle);
+                start(label);
+            }
+        }
+        BrowserProcessMonitor.label(driver, label);
+        return driver;
+    }
+
+    /* ---------- Periodic sample between tests (never recycles mid-class) ---------- */
+    public static synchronized void afterTest(String label) {
+        if (driver != null && ++testsSinceSample >= SAMPLE_EVERY) {
+            check(label, "sample");
+        }
+    }
+
+    /* ---------- End of a test class: keep the browser alive ---------- */
+    public static synchronized void release(String label) {
+        if (driver != null) {
+            check(label, "release");
+        }
+    }
+
+    /* ---------- Internals ---------- */
+    private static void start(String label) {
+        driver = DriverFactory.createDriver();
+        sessionNumber++;
+        pendingRecycle = null;
+        baseline = SessionHealthMonitor.sample(driver);
+        testsSinceSample = 0;
+        SessionHealthMonitor.record(sessionNumber, label, baseline, "start");
+        log.info("Shared session #{} started for {}", sessionNumber, label);
+    }
+
+    private static void check(String label, String action) {
+        SessionHealthMonitor.Sample current;
+        try {
+            current = SessionHealthMonitor.sample(driver);
+        } catch (WebDriverException e) {
+            unresponsive(label, action, e);
+            return;
+        }
+        testsSinceSample = 0;
+        String reason = SessionHealthMonitor.recycleReason(baseline, current);
+        if (reason != null) {
+            pendingRecycle = reason;
+            action = action + ":recycle(" + reason + ")";
+        }
+        SessionHealthMonitor.record(sessionNumber, label, current, action);
+        Reporter.log("Session #" + sessionNumber + " " + label + " " + action + ": DOM " + current.domNodes
+                + " nodes, " + current.windows + " window(s), JS heap "
+                + (current.jsHeapBytes < 0 ? "n/a" : current.jsHeapBytes / 1048576 + " MB"));
+    }
+
+    /** A crashed or hung browser: recycle it instead of failing the caller. */
+    private static void unresponsive(String label, String action, WebDriverException e) {
+        String message = String.valueOf(e.getMessage()).split("\n")[0];
+        pendingRecycle = "unresponsive";
+        log.warn("Shared session #{} failed {} for {}: {}", sessionNumber, action, label, message);
+        Reporter.log("Session #" + sessionNumber + " " + label + " " + action + ":recycle(unresponsive)");
+    }
+
+    private static void recycle(String label, String reason) {
+        log.info("Recycling shared session #{} before {}: {}", sessionNumber, label, reason);
+        try {
+            DriverFactory.quit(driver);
+        } catch (WebDriverException e) {
+            log.debug("Quit of dead session failed: {}", e.getMessage());
+        }
+        driver = null;
+    }
+
+    /** Close extra windows, drop login/cart state and go back to the login page. */
+    private static void reset() {
+        String main = driver.getWindowHandle();
+        for (String handle : driver.getWindowHandles()) {
+            if (!handle.equals(main)) {
+                driver.switchTo().window(handle).close();
+            }
+        }
+        driver.switchTo().window(main);
+        driver.get(DriverFactory.BASE_URL);
+        driver.manage().deleteAllCookies();
+        ((JavascriptExecutor) driver).executeScript("window.localStorage.clear(); window.sessionStorage.clear();");
+        driver.navigate().refresh();
+    }
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            synchronized (SharedSession.class) {
+                if (driver != null) {
+                    try {
+                        driver.quit();
+                    } catch (WebDriverException e) {
+                        // already gone
+                    }
+                }
+            }
+        }, "shared-session-quit"));
+    }
+}
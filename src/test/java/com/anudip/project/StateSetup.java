@@ -0,0 +1,81 @@
+package com.anudip.project;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * StateSetup
+ * ----------
+ * Rebuilds the state declared by @Precondition without clicking through
+ * the UI. SauceDemo keeps its login in the "session-username" cookie and
+ * the cart in localStorage "cart-contents", so both can be written directly.
+ */
+public class StateSetup {
+    private static final Logger log = LogManager.getLogger(StateSetup.class);
+
+    public static final String USERNAME = "standard_user";
+
+    /* ---------- Product id used by SauceDemo's cart-contents ---------- */
+    private static final Map<String, Integer> PRODUCT_IDS = new HashMap<>();
+    static {
+        PRODUCT_IDS.put("sauce-labs-bike-light", 0);
+        PRODUCT_IDS.put("sauce-labs-bolt-t-shirt", 1);
+        PRODUCT_IDS.put("sauce-labs-onesie", 2);
+        PRODUCT_IDS.put("test.allthethings()-t-shirt-(red)", 3);
+        PRODUCT_IDS.put("sauce-labs-backpack", 4);
+        PRODUCT_IDS.put("sauce-labs-fleece-jacket", 5);
+    }
+
+    /* ---------- Apply the precondition of a test method ---------- */
+    public static void apply(BaseClass test, Method method) throws Exception {
+        Precondition pre = method.getAnnotation(Precondition.class);
+        if (pre == null) {
+            log.warn("{} has no @Precondition, running from current state", method.getName());
+            return;
+        }
+        WebDriver driver = test.driver;
+
+        // Cookies and localStorage can only be set on the SauceDemo origin
+        driver.get(DriverFactory.BASE_URL);
+        driver.manage().deleteAllCookies();
+        if (pre.loggedIn()) {
+            driver.manage().addCookie(new Cookie("session-username", USERNAME));
+        }
+
+        JavascriptExecutor js = (JavascriptExecutor) driver;
+        if (pre.cart().length == 0) {
+            js.executeScript("window.localStorage.removeItem('cart-contents');");
+        } else {
+            js.executeScript("window.localStorage.setItem('cart-contents', arguments[0]);", cartJson(pre.cart()));
+        }
+
+        driver.get(DriverFactory.BASE_URL + pre.page());
+
+        for (String step : pre.replay()) {
+            log.info("Replaying {} for {}", step, method.getName());
+            test.getClass().getMethod(step).invoke(test);
+        }
+        log.info("State ready for {}: loggedIn={}, cart={}, page=/{}",
+                method.getName(), pre.loggedIn(), pre.cart().length, pre.page());
+    }
+
+    static String cartJson(String[] products) {
+        StringJoiner json = new StringJoiner(",", "[", "]");
+        for (String product : products) {
+            Integer id = PRODUCT_IDS.get(product);
+            if (id == null) {
+                throw new IllegalArgumentException("Unknown product in @Precondition: " + product);
+            }
+            json.add(String.valueOf(id));
+        }
+        return json.toString();
+    }
+}
@@ -0,0 +1,72 @@
+package com.anudip.project;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+
+/**
+ * StepTimingListener
+ * ------------------
+ * Records the duration and outcome of every test step under the active
+ * EmulationProfile, so runs with different profiles can be compared.
+ *
+ * Report: test-output/step-latency-<profile>.csv
+ */
+public class StepTimingListener implements ITestListener, ISuiteListener {
+    private static final Logger log = LogManager.getLogger(StepTimingListener.class);
+
+    private final List<String> rows = Collections.synchronizedList(new ArrayList<>());
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        record(result, "PASS");
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        record(result, "FAIL");
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        record(result, "SKIP");
+    }
+
+    private void record(ITestResult result, String status) {
+        rows.add(result.getTestClass().getRealClass().getSimpleName() + "," + result.getName() + ","
+                + status + "," + (result.getEndMillis() - result.getStartMillis()));
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        EmulationProfile profile = EmulationProfile.current();
+        Path report = Paths.get("test-output", "step-latency-" + profile.label() + ".csv");
+        try {
+            Files.createDirectories(report.getParent());
+            try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(report, StandardCharsets.UTF_8))) {
+                out.println("profile,class,method,status,ms");
+                synchronized (rows) {
+                    for (String row : rows) {
+                        out.println(profile.label() + "," + row);
+                    }
+                }
+            }
+            log.info("Step latency for profile {} written to {}", profile.label(), report);
+        } catch (IOException e) {
+            log.warn("Could not write {}: {}", report, e.getMessage());
+        }
+    }
+}
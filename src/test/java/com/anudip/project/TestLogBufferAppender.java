@@ -0,0 +1,101 @@
+package com.anudip.project;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.Core;
+import org.apache.logging.log4j.core.Filter;
+import org.apache.logging.log4j.core.Layout;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.Property;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.config.plugins.PluginAttribute;
+import org.apache.logging.log4j.core.config.plugins.PluginElement;
+import org.apache.logging.log4j.core.config.plugins.PluginFactory;
+import org.apache.logging.log4j.core.layout.PatternLayout;
+
+/**
+ * TestLogBufferAppender
+ * ---------------------
+ * Keeps the last N log events of the running test in memory, one bounded
+ * ring buffer per thread. Nothing is formatted or written unless the test
+ * fails, in which case LogBufferListener flushes the buffer to a file.
+ *
+ * log4j2.xml: {@code <TestLogBuffer name="TestBuffer" capacity="2000">}
+ */
+@Plugin(name = "TestLogBuffer", category = Core.CATEGORY_NAME, elementType = Appender.ELEMENT_TYPE)
+public class TestLogBufferAppender extends AbstractAppender {
+
+    private static volatile TestLogBufferAppender instance;
+
+    private final int capacity;
+    private final ThreadLocal<ArrayDeque<LogEvent>> buffer;
+
+    protected TestLogBufferAppender(String name, Filter filter, Layout<? extends Serializable> layout, int capacity) {
+        super(name, filter, layout, true, Property.EMPTY_ARRAY);
+        this.capacity = capacity;
+        this.buffer = ThreadLocal.withInitial(() -> new ArrayDeque<>(Math.min(capacity, 256)));
+    }
+
+    @PluginFactory
+    public static TestLogBufferAppender createAppender(
+            @PluginAttribute("name") String name,
+            @PluginAttribute(value = "capacity", defaultInt = 2000) int capacity,
+            @PluginElement("Layout") Layout<? extends Serializable> layout,
+            @PluginElement("Filter") Filter filter) {
+        if (layout == null) {
+            layout = PatternLayout.createDefaultLayout();
+        }
+        TestLogBufferAppender appender = new TestLogBufferAppender(name, filter, layout, capacity);
+        instance = appender;
+        return appender;
+    }
+
+    @Override
+    public void append(LogEvent event) {
+        ArrayDeque<LogEvent> events = buffer.get();
+        if (events.size() == capacity) {
+            events.pollFirst();
+        }
+        // Events may be reused by Log4j, keep an immutable copy
+        events.addLast(event.toImmutable());
+    }
+
+    /* ---------- Static hooks used by LogBufferListener ---------- */
+
+    /** Start a fresh buffer for the test running on this thread. */
+    public static void begin() {
+        TestLogBufferAppender appender = instance;
+        if (appender != null) {
+            appender.buffer.get().clear();
+        }
+    }
+
+    /** Drop the buffered events of a passing test. */
+    public static void discard() {
+        begin();
+    }
+
+    /** Write this thread's buffered events to file, oldest first. */
+    public static void flush(Path file) throws IOException {
+        TestLogBufferAppender appender = instance;
+        if (appender == null) {
+            return;
+        }
+        ArrayDeque<LogEvent> events = appender.buffer.get();
+        Files.createDirectories(file.getParent());
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (LogEvent event : events) {
+                out.write(new String(appender.getLayout().toByteArray(event), StandardCharsets.UTF_8));
+            }
+        }
+        events.clear();
+    }
+}
@@ -7,6 +7,7 @@ import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.Select;
 import org.testng.Assert;
+import org.testng.SkipException;
 import org.testng.annotations.Test;
 
 /*
@@ -46,6 +47,7 @@ public class UIAndNegativeTests extends BaseClass {
     * Expected Result:
     * User should be logged in and redirected to Products page.
     */
+    @Precondition(loggedIn = false, page = "")
     @Test(priority = 31)
     public void TC31_loginForPart3() {
         log.info("TC31: Login before Part3 tests");
@@ -64,6 +66,7 @@ public class UIAndNegativeTests extends BaseClass {
     * Expected Result:
     * Menu should open and close successfully.
     */
+    @Precondition
     @Test(priority = 32)
     public void TC32_openAndCloseMenu() {
         log.info("TC32: Open and close menu");
@@ -92,6 +95,7 @@ public class UIAndNegativeTests extends BaseClass {
     * Expected Result:
     * Products should be sorted from A to Z.
     */
+    @Precondition
     @Test(priority = 33)
     public void TC33_sortNameAToZ() {
         log.info("TC33: Sort Name A to Z");
@@ -112,6 +116,7 @@ public class UIAndNegativeTests extends BaseClass {
     * Expected Result:
     * Products should be sorted from Z to A.
     */
+    @Precondition
     @Test(priority = 34)
     public void TC34_sortNameZToA() {
         log.info("TC34: Sort Name Z to A");
@@ -130,6 +135,7 @@ public class UIAndNegativeTests extends BaseClass {
     * Expected Result:
     * Products should be sorted from low to high price.
     */
+    @Precondition
     @Test(priority = 35)
     public void TC35_sortPriceLowToHigh() {
         log.info("TC35: Sort Price Low to High");
@@ -148,6 +154,7 @@ public class UIAndNegativeTests extends BaseClass {
     * Expected Result:
     * Products should be sorted from high to low price.
     */
+    @Precondition
     @Test(priority = 36)
     public void TC36_sortPriceHighToLow() {
         log.info("TC36: Sort Price High to Low");
@@ -163,16 +170,28 @@ public class UIAndNegativeTests extends BaseClass {
     * Test Case ID: TC37
     * Test Case Name: Verify Product Images
     * Description:
-    * Verifies product images are displayed on products page.
+    * Verifies product images are displayed on products page,
+    * and that each product shows its own, unchanged image
+    * (perceptual hash against baseline, no duplicates).
+    * Skipped, after the other checks, while products have no hash baseline.
     * Expected Result:
-    * At least one product image should be visible.
+    * At least one product image should be visible and no image problems reported.
     */
+    @Precondition
     @Test(priority = 37)
-    public void TC37_verifyProductImages() {
+    public void TC37_verifyProductImages() throws Exception {
         log.info("TC37: Verify product images");
 
         Assert.assertTrue(driver.findElements(By.className("inventory_item_img")).size() > 0);
 
+        ImageValidator.Result result = ImageValidator.validate(driver);
+        Assert.assertTrue(result.problems.isEmpty(), "Image problems: " + result.problems);
+        if (!result.unbaselined.isEmpty()) {
+            throw new SkipException("No image hash baseline for " + result.unbaselined
+                    + ": review test-output/image-baseline.properties and copy its .hash entries"
+                    + " into src/test/resources/image-baseline.properties");
+        }
+
         log.info("✔ TC37 Passed");
     }
 
@@ -184,6 +203,7 @@ public class UIAndNegativeTests extends BaseClass {
     * Expected Result:
     * At least one product name should be visible.
     */
+    @Precondition
     @Test(priority = 38)
     public void TC38_verifyProductNames() {
         log.info("TC38: Verify product names");
@@ -201,6 +221,7 @@ public class UIAndNegativeTests extends BaseClass {
     * Expected Result:
     * At least one Add to Cart button should be visible.
     */
+    @Precondition
     @Test(priority = 39)
     public void TC39_verifyAddToCartButtons() {
         log.info("TC39: Verify Add to Cart buttons");
@@ -219,6 +240,7 @@ public class UIAndNegativeTests extends BaseClass {
     * Expected Result:
     * User should be logged out and redirected to login page.
     */
+    @Precondition
     @Test(priority = 40)
     public void TC40_logout() {
         log.info("TC40: Logout");
@@ -247,6 +269,7 @@ public class UIAndNegativeTests extends BaseClass {
     * Expected Result:
     * Login should fail and error message should appear.
     */
+    @Precondition(loggedIn = false, page = "")
     @Test(priority = 41)
     public void TC41_invalidLogin() {
         log.info("TC41: Invalid login");
@@ -266,6 +289,7 @@ public class UIAndNegativeTests extends BaseClass {
     * Expected Result:
     * Error message should be visible on login page.
     */
+    @Precondition(loggedIn = false, page = "", replay = "TC41_invalidLogin")
     @Test(priority = 42)
     public void TC42_verifyErrorMessage() {
         log.info("TC42: Verify error message");